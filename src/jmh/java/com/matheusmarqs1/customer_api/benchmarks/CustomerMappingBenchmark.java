@@ -0,0 +1,90 @@
+package com.matheusmarqs1.customer_api.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerResponse;
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
+import com.matheusmarqs1.customer_api.repositories.projections.CustomerSummary;
+
+/**
+ * Cost of turning customers into responses: entity and projection mapping, the age computation
+ * and the JSON serialization of a page as returned by {@code GET /customers}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerMappingBenchmark {
+
+	@Param({"10", "100"})
+	int pageSize;
+
+	private Customer customer;
+	private CustomerSummary summary;
+	private Page<CustomerResponse> page;
+	private ObjectMapper objectMapper;
+
+	@Setup
+	public void setUp() {
+		customer = new Customer(1L, "Matheus Teles", "52998224725", "matheus@example.com",
+				LocalDate.of(2005, 8, 28), "99999999999", "{bcrypt}hash", Role.ROLE_CUSTOMER);
+		summary = new CustomerSummary(1L, "Matheus Teles", "matheus@example.com", LocalDate.of(2005, 8, 28), "99999999999");
+
+		List<CustomerResponse> content = new ArrayList<>(pageSize);
+		for(int i = 0; i < pageSize; i++) {
+			content.add(new CustomerResponse((long) i, "Customer " + i, "customer" + i + "@example.com",
+					LocalDate.of(1980 + i % 40, 1 + i % 12, 1 + i % 28), "11999999999", 30));
+		}
+		page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+
+		// Same settings Spring Boot applies to the ObjectMapper used by the controllers
+		objectMapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build();
+	}
+
+	@Benchmark
+	public CustomerResponse fromEntity() {
+		return CustomerResponse.fromEntity(customer);
+	}
+
+	@Benchmark
+	public CustomerResponse fromSummary() {
+		return CustomerResponse.fromSummary(summary);
+	}
+
+	@Benchmark
+	public int age() {
+		return customer.getAge();
+	}
+
+	@Benchmark
+	public byte[] serializePage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(page);
+	}
+}
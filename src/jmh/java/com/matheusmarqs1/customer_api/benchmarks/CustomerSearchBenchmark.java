@@ -0,0 +1,135 @@
+package com.matheusmarqs1.customer_api.benchmarks;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.matheusmarqs1.customer_api.CustomerApiApplication;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerResponse;
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.services.CustomerService;
+import com.matheusmarqs1.customer_api.services.TotalMode;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Customer searches against the test profile (H2) seeded with {@code rows} customers by
+ * {@code CustomerDataGenerator}, filtering on the values of one of them: building the
+ * specification into a criteria predicate, and running the search with and without the count query,
+ * for an increasing number of combined filters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerSearchBenchmark {
+
+	@Param({"10000"})
+	int rows;
+
+	/** Filters applied to the search: name only, name and email, or all five. */
+	@Param({"name", "name,email", "name,cpf,email,birthDate,phone"})
+	String filters;
+
+	private ConfigurableApplicationContext context;
+	private CustomerService customerService;
+	private EntityManager entityManager;
+	private Pageable pageable;
+
+	private String name;
+	private String cpf;
+	private String email;
+	private LocalDate birthDate;
+	private String phone;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		Base64.Encoder base64 = Base64.getEncoder();
+
+		context = new SpringApplicationBuilder(CustomerApiApplication.class).run(
+				"--spring.profiles.active=test",
+				"--server.port=0",
+				"--spring.main.banner-mode=off",
+				"--spring.jpa.show-sql=false",
+				"--logging.level.root=WARN",
+				"--logging.level.org.springframework=WARN",
+				"--customer.data-generator.customers=" + rows,
+				"--jwt.public.key=" + base64.encodeToString(keyPair.getPublic().getEncoded()),
+				"--jwt.private.key=" + base64.encodeToString(keyPair.getPrivate().getEncoded()));
+
+		Map<String, Object> probe = context.getBean(JdbcTemplate.class).queryForMap(
+				"SELECT name, cpf, email, birth_date, phone FROM tb_customer ORDER BY id LIMIT 1 OFFSET ?", rows / 2);
+
+		customerService = context.getBean(CustomerService.class);
+		entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+		pageable = PageRequest.of(0, 10);
+
+		List<String> applied = List.of(filters.split(","));
+		String fullName = (String) probe.get("name");
+		name = applied.contains("name") ? fullName.substring(fullName.lastIndexOf(' ') + 1).toLowerCase() : null;
+		cpf = applied.contains("cpf") ? (String) probe.get("cpf") : null;
+		email = applied.contains("email") ? (String) probe.get("email") : null;
+		birthDate = applied.contains("birthDate") ? LocalDate.parse(probe.get("birth_date").toString()) : null;
+		phone = applied.contains("phone") ? (String) probe.get("phone") : null;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		entityManager.close();
+		context.close();
+	}
+
+	@Benchmark
+	public Predicate buildPredicate() {
+		Specification<Customer> spec = customerService.buildSpecification(name, cpf, email, birthDate, phone);
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Customer> query = builder.createQuery(Customer.class);
+		Root<Customer> root = query.from(Customer.class);
+		return spec.toPredicate(root, query, builder);
+	}
+
+	@Benchmark
+	public Slice<CustomerResponse> searchWithoutTotal() {
+		return customerService.findCustomers(name, cpf, email, birthDate, phone, pageable, TotalMode.NONE);
+	}
+
+	@Benchmark
+	public Slice<CustomerResponse> searchWithExactTotal() {
+		return customerService.findCustomers(name, cpf, email, birthDate, phone, pageable, TotalMode.EXACT);
+	}
+}
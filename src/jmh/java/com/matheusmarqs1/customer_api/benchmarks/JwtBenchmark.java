@@ -0,0 +1,138 @@
+package com.matheusmarqs1.customer_api.benchmarks;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import com.matheusmarqs1.customer_api.dtos.login.LoginResponse;
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
+import com.matheusmarqs1.customer_api.security.CachingJwtDecoder;
+import com.matheusmarqs1.customer_api.security.CustomerAuthenticated;
+import com.matheusmarqs1.customer_api.security.JwtKeys;
+import com.matheusmarqs1.customer_api.security.JwtService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Access token issuance at login and verification on every authenticated request, with and without
+ * the verified token cache, for both supported signing algorithms. Run with {@code -prof gc} to see
+ * the allocation per issued token; {@link #issueTokenStreamingAuthorities()} keeps the issuance path
+ * from before the per-role claims were precomputed as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+	@Param({"RS256", "ES256"})
+	String algorithm;
+
+	private JwtService jwtService;
+	private JwtKeys jwtKeys;
+	private JwtEncoder encoder;
+	private CustomerAuthenticated principal;
+	private JwtDecoder decoder;
+	private JwtDecoder cachingDecoder;
+	private String token;
+
+	@Setup
+	public void setUp() throws Exception {
+		KeyPairGenerator generator;
+		if(algorithm.equals("ES256")) {
+			generator = KeyPairGenerator.getInstance("EC");
+			generator.initialize(256);
+		}
+		else {
+			generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+		}
+		KeyPair keyPair = generator.generateKeyPair();
+		Base64.Encoder base64 = Base64.getEncoder();
+
+		jwtKeys = new JwtKeys(algorithm, base64.encodeToString(keyPair.getPublic().getEncoded()),
+				base64.encodeToString(keyPair.getPrivate().getEncoded()), List.of());
+		encoder = jwtKeys.encoder();
+		jwtService = new JwtService(encoder, jwtKeys);
+		decoder = jwtKeys.decoder();
+		cachingDecoder = new CachingJwtDecoder(jwtKeys.decoder(), 10_000, new SimpleMeterRegistry());
+
+		principal = new CustomerAuthenticated(new Customer(1L, "Matheus Teles", "52998224725", "matheus@example.com",
+				LocalDate.of(2005, 8, 28), "99999999999", "{bcrypt}hash", Role.ROLE_CUSTOMER));
+		token = jwtService.generateTokenAndResponse(principal, "refresh").token();
+	}
+
+	@Benchmark
+	public LoginResponse issueToken() {
+		return jwtService.generateTokenAndResponse(principal, "refresh");
+	}
+
+	/**
+	 * Token issuance as it was before the scope and role list were precomputed per role: a fresh authority
+	 * list per call, streamed once for the scope claim and again for the response roles.
+	 */
+	@Benchmark
+	public LoginResponse issueTokenStreamingAuthorities() {
+		Instant now = Instant.now();
+		Instant expiresAt = now.plusSeconds(900L);
+		List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(principal.getRole().name()));
+		
+		String scopes = authorities.stream()
+				.map(GrantedAuthority::getAuthority)
+				.collect(Collectors.joining(" "));
+		
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+				.issuer("customer-api")
+				.issuedAt(now)
+				.expiresAt(expiresAt)
+				.subject(principal.getUsername())
+				.claim("scope", scopes)
+				.claim("customerId", principal.getId())
+				.build();
+		
+		String token = encoder.encode(JwtEncoderParameters.from(jwtKeys.header(), claims)).getTokenValue();
+		
+		List<String> roles = authorities.stream()
+				.map(GrantedAuthority::getAuthority)
+				.collect(Collectors.toList());
+		
+		return new LoginResponse(token, roles, expiresAt, principal.getId(), "refresh");
+	}
+
+	@Benchmark
+	public Jwt verifyToken() {
+		return decoder.decode(token);
+	}
+
+	@Benchmark
+	public Jwt verifyCachedToken() {
+		return cachingDecoder.decode(token);
+	}
+}
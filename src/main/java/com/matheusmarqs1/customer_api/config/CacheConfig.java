@@ -0,0 +1,51 @@
+package com.matheusmarqs1.customer_api.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+	
+	public static final String CUSTOMERS_CACHE = "customers";
+	public static final String PRINCIPALS_CACHE = "principals";
+	
+	@Value("${customer.cache.customers.maximum-size:10000}")
+	private long customersMaximumSize;
+	@Value("${customer.cache.customers.time-to-live:PT5M}")
+	private Duration customersTimeToLive;
+	@Value("${customer.cache.principals.maximum-size:10000}")
+	private long principalsMaximumSize;
+	@Value("${customer.cache.principals.time-to-live:PT1M}")
+	private Duration principalsTimeToLive;
+	
+	/**
+	 * Caches are bounded and record statistics, which the actuator publishes as
+	 * {@code cache.gets} (hit/miss), {@code cache.puts} and {@code cache.evictions} metrics.
+	 * Puts and evictions are deferred until the surrounding transaction commits.
+	 */
+	@Bean
+	CacheManager cacheManager() {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.registerCustomCache(CUSTOMERS_CACHE, Caffeine.newBuilder()
+				.maximumSize(customersMaximumSize)
+				.expireAfter(new EndOfDayExpiry<Object, Object>(customersTimeToLive))
+				.recordStats()
+				.build());
+		cacheManager.registerCustomCache(PRINCIPALS_CACHE, Caffeine.newBuilder()
+				.maximumSize(principalsMaximumSize)
+				.expireAfterWrite(principalsTimeToLive)
+				.recordStats()
+				.build());
+		return new TransactionAwareCacheManagerProxy(cacheManager);
+	}
+}
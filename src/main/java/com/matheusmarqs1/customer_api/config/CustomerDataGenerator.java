@@ -0,0 +1,239 @@
+package com.matheusmarqs1.customer_api.config;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.matheusmarqs1.customer_api.entities.enums.Role;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Seeds synthetic customers at startup on the test and dev profiles, so searches and load tests run against
+ * a realistic volume of data instead of the three {@link TestConfig} fixtures.
+ * <p>
+ * Rows are written with batched JDBC inserts, bypassing Hibernate, and all share one password hash computed
+ * once, so a million customers take seconds rather than a million BCrypt rounds. First and last names follow
+ * a Zipf distribution (a few very common names, a long tail of rare ones), birth dates a normal distribution,
+ * and every CPF is valid and unique. The same seed always produces the same names and birth dates.
+ * <p>
+ * Ids are reserved from {@code tb_customer_seq}, which is moved past the generated range afterwards so
+ * customers created through the API do not collide with them. Generation runs before the application serves
+ * requests and assumes no concurrent inserts.
+ */
+@Component
+@Profile({"test", "dev"})
+public class CustomerDataGenerator implements CommandLineRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(CustomerDataGenerator.class);
+
+	private static final String SEQUENCE = "tb_customer_seq";
+	private static final int SEQUENCE_INCREMENT = 50;
+	private static final long CPF_MULTIPLIER = 738_219_253L;
+
+	private static final String[] FIRST_NAMES = {"Maria", "José", "Ana", "João", "Antônio", "Francisco", "Carlos", "Paulo",
+			"Pedro", "Lucas", "Luiz", "Marcos", "Luís", "Gabriel", "Rafael", "Juliana", "Márcia", "Fernanda", "Patrícia",
+			"Aline", "Sandra", "Camila", "Amanda", "Bruna", "Jéssica", "Letícia", "Júlia", "Beatriz", "Mariana", "Matheus",
+			"Felipe", "Gustavo", "Bruno", "Thiago", "Diego", "Larissa", "Vanessa", "Renata", "Eduardo", "Vitória"};
+	private static final String[] LAST_NAMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves",
+			"Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes",
+			"Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado",
+			"Mendes", "Freitas", "Cardoso", "Ramos", "Gonçalves", "Santana", "Teixeira", "Teles", "Araújo", "Pinto",
+			"Correia", "Monteiro"};
+	private static final String[] AREA_CODES = {"11", "21", "31", "41", "47", "51", "61", "71", "81", "85", "91"};
+	private static final String[] FIRST_NAMES_ASCII = ascii(FIRST_NAMES);
+	private static final String[] LAST_NAMES_ASCII = ascii(LAST_NAMES);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManagerFactory entityManagerFactory;
+	private final PasswordEncoder passwordEncoder;
+	private final int customers;
+	private final long seed;
+	private final int batchSize;
+	private final String password;
+	private final String emailDomain;
+	private final double[] firstNameWeights;
+	private final double[] lastNameWeights;
+	private final LocalDate birthDateMean;
+	private final double birthDateDeviationDays;
+	private final LocalDate birthDateMin;
+	private final LocalDate birthDateMax;
+
+	public CustomerDataGenerator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory, PasswordEncoder passwordEncoder,
+			@Value("${customer.data-generator.customers:0}") int customers,
+			@Value("${customer.data-generator.seed:42}") long seed,
+			@Value("${customer.data-generator.batch-size:1000}") int batchSize,
+			@Value("${customer.data-generator.password:Customer@123}") String password,
+			@Value("${customer.data-generator.email-domain:example.com}") String emailDomain,
+			@Value("${customer.data-generator.name-skew:1.0}") double nameSkew,
+			@Value("${customer.data-generator.birth-date.mean:1982-01-01}") String birthDateMean,
+			@Value("${customer.data-generator.birth-date.standard-deviation-years:12}") double birthDateDeviationYears,
+			@Value("${customer.data-generator.birth-date.min:1930-01-01}") String birthDateMin,
+			@Value("${customer.data-generator.birth-date.max:2005-12-31}") String birthDateMax) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.entityManagerFactory = entityManagerFactory;
+		this.passwordEncoder = passwordEncoder;
+		this.customers = customers;
+		this.seed = seed;
+		this.batchSize = Math.max(1, batchSize);
+		this.password = password;
+		this.emailDomain = emailDomain;
+		this.firstNameWeights = zipf(FIRST_NAMES.length, nameSkew);
+		this.lastNameWeights = zipf(LAST_NAMES.length, nameSkew);
+		this.birthDateMean = LocalDate.parse(birthDateMean);
+		this.birthDateDeviationDays = birthDateDeviationYears * 365.25;
+		this.birthDateMin = LocalDate.parse(birthDateMin);
+		this.birthDateMax = LocalDate.parse(birthDateMax);
+	}
+
+	/**
+	 * Tops the table up to {@code customer.data-generator.customers} rows, so restarting against a database
+	 * that was already seeded does not generate them again.
+	 */
+	@Override
+	public void run(String... args) {
+		if(customers <= 0) {
+			return;
+		}
+		Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_customer", Long.class);
+		if(existing != null && existing >= customers) {
+			return;
+		}
+		generate(customers - (existing == null ? 0 : existing.intValue()));
+	}
+
+	public void generate(int count) {
+		long start = System.nanoTime();
+		String encodedPassword = passwordEncoder.encode(password);
+		Random random = new Random(seed);
+
+		long firstId = nextSequenceValue() + 1;
+		List<Object[]> batch = new ArrayList<>(batchSize);
+		for(int i = 0; i < count; i++) {
+			long id = firstId + i;
+			GeneratedCustomer customer = generate(id, random);
+			batch.add(new Object[] {id, customer.name(), customer.cpf(), customer.email(), customer.birthDate(), customer.phone(),
+					encodedPassword, Role.ROLE_CUSTOMER.getCode()});
+			if(batch.size() == batchSize) {
+				insert(batch);
+				batch.clear();
+			}
+		}
+		if(!batch.isEmpty()) {
+			insert(batch);
+		}
+		// The pooled optimizer hands out the block of ids that ends at the value it reads, so the next value
+		// must be a whole increment past the last generated id.
+		jdbcTemplate.execute("ALTER SEQUENCE " + SEQUENCE + " RESTART WITH " + (firstId + count + SEQUENCE_INCREMENT));
+
+		logger.info("Generated {} customers in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+	}
+
+	GeneratedCustomer generate(long id, Random random) {
+		int first = pick(firstNameWeights, random);
+		int last = pick(lastNameWeights, random);
+		String name = random.nextInt(10) < 4
+				? FIRST_NAMES[first] + " " + LAST_NAMES[pick(lastNameWeights, random)] + " " + LAST_NAMES[last]
+				: FIRST_NAMES[first] + " " + LAST_NAMES[last];
+
+		String phone = AREA_CODES[random.nextInt(AREA_CODES.length)] + "9" + digits(random.nextInt(100_000_000), 8);
+		String email = FIRST_NAMES_ASCII[first] + "." + LAST_NAMES_ASCII[last] + "." + id + "@" + emailDomain;
+		return new GeneratedCustomer(name, cpfOf(id), email, birthDate(random), phone);
+	}
+
+	/** Normal distribution around the mean, drawn again when it falls outside the configured range. */
+	private LocalDate birthDate(Random random) {
+		for(int attempt = 0; attempt < 10; attempt++) {
+			LocalDate birthDate = birthDateMean.plusDays(Math.round(random.nextGaussian() * birthDateDeviationDays));
+			if(!birthDate.isBefore(birthDateMin) && !birthDate.isAfter(birthDateMax)) {
+				return birthDate;
+			}
+		}
+		return birthDateMin.plusDays(random.nextLong(ChronoUnit.DAYS.between(birthDateMin, birthDateMax) + 1));
+	}
+
+	/**
+	 * CPF of the customer generated with the given id. The base is the id scrambled by a multiplier coprime
+	 * with 10^9, so distinct ids below a billion always give distinct CPFs.
+	 */
+	public static String cpfOf(long id) {
+		return cpf(id * CPF_MULTIPLIER % 1_000_000_000L);
+	}
+
+	/** Completes a nine-digit base with the two CPF check digits. */
+	static String cpf(long base) {
+		String digits = digits(base, 9);
+		digits += checkDigit(digits);
+		return digits + checkDigit(digits);
+	}
+
+	/** Zero-padded decimal digits, without the parsing cost of {@code String.format} on every row. */
+	private static String digits(long value, int length) {
+		char[] chars = new char[length];
+		for(int i = length - 1; i >= 0; i--) {
+			chars[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+		return new String(chars);
+	}
+
+	private static int checkDigit(String digits) {
+		int sum = 0;
+		for(int i = 0; i < digits.length(); i++) {
+			sum += (digits.charAt(i) - '0') * (digits.length() + 1 - i);
+		}
+		int digit = 11 - sum % 11;
+		return digit >= 10 ? 0 : digit;
+	}
+
+	/** Cumulative weights where the k-th value is picked with a probability proportional to 1 / k^skew. */
+	private static double[] zipf(int size, double skew) {
+		double[] cumulative = new double[size];
+		double total = 0;
+		for(int k = 0; k < size; k++) {
+			total += 1 / Math.pow(k + 1, skew);
+			cumulative[k] = total;
+		}
+		return cumulative;
+	}
+
+	private static int pick(double[] cumulative, Random random) {
+		double ticket = random.nextDouble() * cumulative[cumulative.length - 1];
+		int index = Arrays.binarySearch(cumulative, ticket);
+		return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+	}
+
+	private static String[] ascii(String[] names) {
+		return Arrays.stream(names)
+				.map(name -> Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT))
+				.toArray(String[]::new);
+	}
+
+	private long nextSequenceValue() {
+		String sql = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+				.getSequenceSupport().getSelectSequenceNextValString(SEQUENCE);
+		return jdbcTemplate.queryForObject("SELECT " + sql, Long.class);
+	}
+
+	private void insert(List<Object[]> batch) {
+		jdbcTemplate.batchUpdate("INSERT INTO tb_customer (id, name, cpf, email, birth_date, phone, password, role) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+	}
+
+	record GeneratedCustomer(String name, String cpf, String email, LocalDate birthDate, String phone) {
+	}
+}
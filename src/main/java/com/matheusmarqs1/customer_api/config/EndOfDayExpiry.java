@@ -0,0 +1,47 @@
+package com.matheusmarqs1.customer_api.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Expires cache entries after a fixed time-to-live, but never later than the next midnight.
+ * Values derived from the current date, such as {@code CustomerResponse.age}, are therefore
+ * never served across a date boundary.
+ */
+public class EndOfDayExpiry<K, V> implements Expiry<K, V> {
+
+	private final Duration timeToLive;
+	private final Clock clock;
+
+	public EndOfDayExpiry(Duration timeToLive) {
+		this(timeToLive, Clock.systemDefaultZone());
+	}
+
+	public EndOfDayExpiry(Duration timeToLive, Clock clock) {
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+	}
+
+	@Override
+	public long expireAfterCreate(K key, V value, long currentTime) {
+		ZonedDateTime now = ZonedDateTime.now(clock);
+		ZonedDateTime nextMidnight = LocalDate.now(clock).plusDays(1).atStartOfDay(clock.getZone());
+		Duration untilMidnight = Duration.between(now, nextMidnight);
+		
+		return (untilMidnight.compareTo(timeToLive) < 0 ? untilMidnight : timeToLive).toNanos();
+	}
+
+	@Override
+	public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+		return expireAfterCreate(key, value, currentTime);
+	}
+
+	@Override
+	public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+		return currentDuration;
+	}
+}
@@ -6,6 +6,8 @@ import java.util.Arrays;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import com.matheusmarqs1.customer_api.entities.Customer;
 import com.matheusmarqs1.customer_api.entities.enums.Role;
@@ -13,6 +15,7 @@ import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
 
 @Configuration()
 @Profile("test")
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class TestConfig implements CommandLineRunner {
 
     private final PasswordEncoder passwordEncoder;
@@ -26,12 +29,13 @@ public class TestConfig implements CommandLineRunner {
 
 	@Override
 	public void run(String... args) throws Exception {
+		String password = passwordEncoder.encode("1234");
 		Customer c1 = new Customer(null, "Matheus Teles", "999999999", "matheus@example.com",
-				LocalDate.of(2005, 8, 28), "99999999999", passwordEncoder.encode("1234"), Role.ROLE_CUSTOMER);
+				LocalDate.of(2005, 8, 28), "99999999999", password, Role.ROLE_CUSTOMER);
         Customer c2 = new Customer(null, "Ana Teles", "999999998", "ana@example.com",
-                LocalDate.of(1995, 3, 15), "99999999998", passwordEncoder.encode("1234"), Role.ROLE_CUSTOMER);
+                LocalDate.of(1995, 3, 15), "99999999998", password, Role.ROLE_CUSTOMER);
         Customer c3 = new Customer(null, "João Ferreira", "999999997", "joao@example.com",
-                LocalDate.of(1980, 12, 5), "99999999997", passwordEncoder.encode("1234"), Role.ROLE_ADMIN);
+                LocalDate.of(1980, 12, 5), "99999999997", password, Role.ROLE_ADMIN);
         
         customerRepository.saveAll(Arrays.asList(c1, c2, c3));
 		
@@ -9,8 +9,12 @@ import org.springframework.web.bind.annotation.RestController;
 import com.matheusmarqs1.customer_api.controllers.docs.AuthenticationControllerDocs;
 import com.matheusmarqs1.customer_api.dtos.login.LoginRequest;
 import com.matheusmarqs1.customer_api.dtos.login.LoginResponse;
+import com.matheusmarqs1.customer_api.dtos.login.RefreshTokenRequest;
 import com.matheusmarqs1.customer_api.services.AuthenticationService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
 @RestController
 @RequestMapping("/customers")
 public class AuthenticationController implements AuthenticationControllerDocs {
@@ -22,9 +26,21 @@ public class AuthenticationController implements AuthenticationControllerDocs {
 	}
 	
 	@PostMapping("/login")
-	public ResponseEntity<LoginResponse> authenticate(@RequestBody LoginRequest request) {
-		LoginResponse response = authenticationService.authenticate(request);
+	public ResponseEntity<LoginResponse> authenticate(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+		LoginResponse response = authenticationService.authenticate(request, httpRequest.getRemoteAddr());
+		return ResponseEntity.ok().body(response);
+	}
+	
+	@PostMapping("/refresh")
+	public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+		LoginResponse response = authenticationService.refresh(request);
 		return ResponseEntity.ok().body(response);
 	}
+	
+	@PostMapping("/logout")
+	public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+		authenticationService.logout(request);
+		return ResponseEntity.noContent().build();
+	}
 
 }
@@ -1,29 +1,45 @@
 package com.matheusmarqs1.customer_api.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.LocalDate;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.matheusmarqs1.customer_api.controllers.docs.CustomerControllerDocs;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerCreateRequest;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerImportResponse;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerPatchRequest;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerResponse;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerScrollResponse;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerUpdateRequest;
+import com.matheusmarqs1.customer_api.services.CustomerExportService;
+import com.matheusmarqs1.customer_api.services.CustomerFileFormat;
+import com.matheusmarqs1.customer_api.services.CustomerImportService;
 import com.matheusmarqs1.customer_api.services.CustomerService;
+import com.matheusmarqs1.customer_api.services.TotalMode;
 
 import jakarta.validation.Valid;
 
@@ -32,25 +48,65 @@ import jakarta.validation.Valid;
 public class CustomerController implements CustomerControllerDocs {
 	
 	private final CustomerService customerService;
+	private final CustomerImportService customerImportService;
+	private final CustomerExportService customerExportService;
 	
-	public CustomerController(CustomerService customerService) {
+	public CustomerController(CustomerService customerService, CustomerImportService customerImportService,
+			CustomerExportService customerExportService) {
 		this.customerService = customerService;
+		this.customerImportService = customerImportService;
+		this.customerExportService = customerExportService;
 	}
 	
 	@GetMapping
 	@PreAuthorize("hasAuthority('SCOPE_ROLE_ADMIN')")
-	public ResponseEntity<Page<CustomerResponse>> findCustomers(
+	public ResponseEntity<Slice<CustomerResponse>> findCustomers(
 			@RequestParam(required = false) String name,
 			@RequestParam(required = false) String cpf,
 			@RequestParam(required = false) String email,
 			@RequestParam(required = false) LocalDate birthDate,
 			@RequestParam(required = false) String phone,
+			@RequestParam(required = false) String withTotal,
 			@PageableDefault(page = 0, size = 10) Pageable pageable
 			){
-				Page<CustomerResponse> customers = customerService.findCustomers(name, cpf, email, birthDate, phone, pageable);
+				Slice<CustomerResponse> customers = customerService.findCustomers(name, cpf, email, birthDate, phone, pageable, TotalMode.fromParameter(withTotal));
 				return ResponseEntity.ok().body(customers);
 	}
 	
+	@GetMapping(value = "/scroll")
+	@PreAuthorize("hasAuthority('SCOPE_ROLE_ADMIN')")
+	public ResponseEntity<CustomerScrollResponse> scrollCustomers(
+			@RequestParam(required = false) String name,
+			@RequestParam(required = false) String cpf,
+			@RequestParam(required = false) String email,
+			@RequestParam(required = false) LocalDate birthDate,
+			@RequestParam(required = false) String phone,
+			@RequestParam(required = false) String after,
+			@RequestParam(defaultValue = "10") int size,
+			@SortDefault(sort = "id") Sort sort
+			){
+				CustomerScrollResponse customers = customerService.scrollCustomers(name, cpf, email, birthDate, phone, after, size, sort);
+				return ResponseEntity.ok().body(customers);
+	}
+	
+	@GetMapping(value = "/export")
+	@PreAuthorize("hasAuthority('SCOPE_ROLE_ADMIN')")
+	public ResponseEntity<StreamingResponseBody> exportCustomers(
+			@RequestParam(required = false) String name,
+			@RequestParam(required = false) String cpf,
+			@RequestParam(required = false) String email,
+			@RequestParam(required = false) LocalDate birthDate,
+			@RequestParam(required = false) String phone,
+			@RequestParam(required = false) String format
+			){
+				CustomerFileFormat fileFormat = CustomerFileFormat.fromParameter(format);
+				StreamingResponseBody body = output -> customerExportService.exportCustomers(name, cpf, email, birthDate, phone, fileFormat, output);
+				return ResponseEntity.ok()
+						.contentType(fileFormat.getMediaType())
+						.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"customers." + fileFormat.getParameter() + "\"")
+						.body(body);
+	}
+	
 	@GetMapping(value = "/{id}")
 	@PreAuthorize("hasAuthority('SCOPE_ROLE_ADMIN') || #id == authentication.token.claims['customerId']")
 	public ResponseEntity<CustomerResponse> findCustomerById(@PathVariable Long id){
@@ -65,6 +121,13 @@ public class CustomerController implements CustomerControllerDocs {
 		return ResponseEntity.created(uri).body(customer);
 	}
 	
+	@PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, CustomerFileFormat.CSV_MEDIA_TYPE})
+	@PreAuthorize("hasAuthority('SCOPE_ROLE_ADMIN')")
+	public ResponseEntity<CustomerImportResponse> importCustomers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException{
+		CustomerImportResponse report = customerImportService.importCustomers(body, CustomerFileFormat.fromContentType(contentType));
+		return ResponseEntity.ok().body(report);
+	}
+	
 	@PutMapping(value = "/{id}")
 	@PreAuthorize("hasAuthority('SCOPE_ROLE_ADMIN') || #id == authentication.token.claims['customerId']")
 	public ResponseEntity<CustomerResponse> updateCustomer(@PathVariable Long id, @Valid @RequestBody CustomerUpdateRequest updateRequest){
@@ -72,6 +135,13 @@ public class CustomerController implements CustomerControllerDocs {
 		return ResponseEntity.ok().body(customer);
 	}
 	
+	@PatchMapping(value = "/{id}")
+	@PreAuthorize("hasAuthority('SCOPE_ROLE_ADMIN') || #id == authentication.token.claims['customerId']")
+	public ResponseEntity<CustomerResponse> patchCustomer(@PathVariable Long id, @Valid @RequestBody CustomerPatchRequest patchRequest){
+		CustomerResponse customer = customerService.patchCustomer(id, patchRequest);
+		return ResponseEntity.ok().body(customer);
+	}
+	
 	@DeleteMapping(value = "/{id}")
 	@PreAuthorize("hasAuthority('SCOPE_ROLE_ADMIN') || #id == authentication.token.claims['customerId']")
 	public ResponseEntity<Void> deleteCustomer(@PathVariable Long id){
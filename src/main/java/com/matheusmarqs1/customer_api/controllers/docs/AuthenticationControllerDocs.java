@@ -6,11 +6,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import com.matheusmarqs1.customer_api.dtos.login.LoginRequest;
 import com.matheusmarqs1.customer_api.dtos.login.LoginResponse;
+import com.matheusmarqs1.customer_api.dtos.login.RefreshTokenRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 
 @Tag(name = "Authentication Controller", description = "Endpoints for authentication")
 public interface AuthenticationControllerDocs {
@@ -20,9 +23,30 @@ public interface AuthenticationControllerDocs {
 	 @ApiResponses(value = {
 			    @ApiResponse(responseCode = "200", description = "Successfully authenticated. Returns JWT token"),
 			    @ApiResponse(responseCode = "400", description = "Bad request due to validation errors (e.g., invalid email or password constraints)"),
-			    @ApiResponse(responseCode = "401", description = "Unauthorized. Email not found or password incorrect")
+			    @ApiResponse(responseCode = "401", description = "Unauthorized. Email not found or password incorrect"),
+			    @ApiResponse(responseCode = "429", description = "Too many login attempts for this email or client address. "
+			    		+ "The Retry-After header tells how many seconds to wait")
 	})
 	@PostMapping("/login")
-	 public ResponseEntity<LoginResponse> authenticate(@RequestBody LoginRequest request);
+	 public ResponseEntity<LoginResponse> authenticate(@RequestBody LoginRequest request, HttpServletRequest httpRequest);
+	 
+	 @Operation(summary = "Refresh the access token",
+			 description = "Exchange a refresh token for a new JWT and a new refresh token. The presented refresh token can no longer be used"
+	 )
+	 @ApiResponses(value = {
+			 @ApiResponse(responseCode = "200", description = "Successfully refreshed. Returns a new JWT and refresh token"),
+			 @ApiResponse(responseCode = "400", description = "Bad request. The refresh token is missing"),
+			 @ApiResponse(responseCode = "401", description = "Unauthorized. The refresh token is unknown, expired, revoked or was already used")
+	 })
+	 @PostMapping("/refresh")
+	 public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request);
+	 
+	 @Operation(summary = "Log out", description = "Revoke a refresh token so it can no longer be used")
+	 @ApiResponses(value = {
+			 @ApiResponse(responseCode = "204", description = "Refresh token revoked"),
+			 @ApiResponse(responseCode = "400", description = "Bad request. The refresh token is missing")
+	 })
+	 @PostMapping("/logout")
+	 public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request);
 
 }
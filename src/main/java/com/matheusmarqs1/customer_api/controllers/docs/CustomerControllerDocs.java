@@ -1,24 +1,39 @@
 package com.matheusmarqs1.customer_api.controllers.docs;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerCreateRequest;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerImportResponse;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerPatchRequest;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerResponse;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerScrollResponse;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerUpdateRequest;
+import com.matheusmarqs1.customer_api.services.CustomerFileFormat;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -29,22 +44,72 @@ import jakarta.validation.Valid;
 public interface CustomerControllerDocs {
 	
 	@Operation(summary = "Get a paginated list of customers", 
-			description = "Retrieve a list of customers filtered optionally by name, cpf, email, birthDate, or phone")
+			description = "Retrieve a list of customers filtered optionally by name, cpf, email, birthDate, or phone. "
+					+ "The withTotal parameter controls the total count: 'exact' (default) runs a count query, "
+					+ "'estimate' uses database planner statistics and 'false' returns a slice without any total")
 	@SecurityRequirement(name = "Bearer Authentication")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "Successfully retrieved the list of customers"),
+			@ApiResponse(responseCode = "400", description = "Invalid withTotal value"),
 			@ApiResponse(responseCode = "401", description = "Unauthorized. JWT token is missing or invalid")
 	})
 	@GetMapping
-	public ResponseEntity<Page<CustomerResponse>> findCustomers(
+	public ResponseEntity<Slice<CustomerResponse>> findCustomers(
 			@RequestParam(required = false) String name,
 			@RequestParam(required = false) String cpf,
 			@RequestParam(required = false) String email,
 			@RequestParam(required = false) LocalDate birthDate,
 			@RequestParam(required = false) String phone,
+			@RequestParam(required = false) String withTotal,
 			@PageableDefault(page = 0, size = 10) Pageable pageable
 	);
 	
+	@Operation(summary = "Scroll through customers with a cursor", 
+			description = "Retrieve a window of customers after the given cursor, filtered optionally by name, cpf, email, birthDate, or phone. "
+					+ "Sorting supports a single property among id, name, email and birthDate. "
+					+ "Unlike the paginated list, no total count is computed and deep windows cost the same as the first one")
+	@SecurityRequirement(name = "Bearer Authentication")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved the window of customers"),
+			@ApiResponse(responseCode = "400", description = "Invalid cursor, a cursor that does not match the requested sort, or an unsupported sort"),
+			@ApiResponse(responseCode = "401", description = "Unauthorized. JWT token is missing or invalid")
+	})
+	@GetMapping(value = "/scroll")
+	public ResponseEntity<CustomerScrollResponse> scrollCustomers(
+			@RequestParam(required = false) String name,
+			@RequestParam(required = false) String cpf,
+			@RequestParam(required = false) String email,
+			@RequestParam(required = false) LocalDate birthDate,
+			@RequestParam(required = false) String phone,
+			@RequestParam(required = false) String after,
+			@RequestParam(defaultValue = "10") int size,
+			@SortDefault(sort = "id") Sort sort
+	);
+	
+	@Operation(summary = "Export customers as a file", 
+			description = "Stream every customer matching the optional name, cpf, email, birthDate or phone filters, in id order, "
+					+ "as NDJSON (format=ndjson, default) or CSV (format=csv) with the same fields as the customer responses. "
+					+ "The whole export is read with a single query and written as it is read")
+	@SecurityRequirement(name = "Bearer Authentication")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Customers streamed in the requested format", content = {
+					@Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE),
+					@Content(mediaType = CustomerFileFormat.CSV_MEDIA_TYPE)
+			}),
+			@ApiResponse(responseCode = "400", description = "Invalid format value"),
+			@ApiResponse(responseCode = "401", description = "Unauthorized. JWT token is missing or invalid"),
+			@ApiResponse(responseCode = "403", description = "Forbidden. Only admins can export customers")
+	})
+	@GetMapping(value = "/export")
+	public ResponseEntity<StreamingResponseBody> exportCustomers(
+			@RequestParam(required = false) String name,
+			@RequestParam(required = false) String cpf,
+			@RequestParam(required = false) String email,
+			@RequestParam(required = false) LocalDate birthDate,
+			@RequestParam(required = false) String phone,
+			@RequestParam(required = false) String format
+	);
+	
 	@Operation(summary = "Find customer by id", description = "Retrieve a customer by their id")
 	@SecurityRequirement(name="Bearer Authentication")
 	@ApiResponses(value = {
@@ -67,6 +132,29 @@ public interface CustomerControllerDocs {
 	@PostMapping
 	public ResponseEntity<CustomerResponse> createCustomer(@Valid @RequestBody CustomerCreateRequest createRequest);
 	
+	@Operation(summary = "Import customers in bulk", 
+			description = "Create many customers from an NDJSON body (one customer creation JSON per line) "
+					+ "or a CSV body with the header name,cpf,email,birthDate,phone,password. "
+					+ "Rows are validated like a single creation; invalid or duplicated rows are skipped and reported "
+					+ "with their line number, and the valid ones are inserted in batches")
+	@SecurityRequirement(name = "Bearer Authentication")
+	@io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+			@Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE),
+			@Content(mediaType = CustomerFileFormat.CSV_MEDIA_TYPE)
+	})
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Import finished, with the number of imported and rejected rows"),
+			@ApiResponse(responseCode = "400", description = "CSV header is missing or lacks a required column"),
+			@ApiResponse(responseCode = "401", description = "Unauthorized. JWT token is missing or invalid"),
+			@ApiResponse(responseCode = "403", description = "Forbidden. Only admins can import customers"),
+			@ApiResponse(responseCode = "415", description = "Body is neither NDJSON nor CSV")
+	})
+	@PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, CustomerFileFormat.CSV_MEDIA_TYPE})
+	public ResponseEntity<CustomerImportResponse> importCustomers(
+			@Parameter(hidden = true) @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+			@Parameter(hidden = true) InputStream body
+	) throws IOException;
+	
 	 @Operation(summary = "Update an existing customer", description = "Update an existing customer in the system")
 	 @SecurityRequirement(name="Bearer Authentication")
 	    @ApiResponses(value = {
@@ -81,6 +169,21 @@ public interface CustomerControllerDocs {
 	 @PutMapping(value = "/{id}")
 		public ResponseEntity<CustomerResponse> updateCustomer(@PathVariable Long id, @Valid @RequestBody CustomerUpdateRequest updateRequest);
 	 
+	 @Operation(summary = "Partially update a customer", description = "Update only the fields present in the request body. "
+	 		+ "The password is re-hashed only when a new one is sent")
+	 @SecurityRequirement(name="Bearer Authentication")
+	    @ApiResponses(value = {
+	        @ApiResponse(responseCode = "200", description = "Customer successfully updated"),
+	        @ApiResponse(responseCode = "400", description = "Bad request. "
+	        		+ "Can occur due to validation errors (invalid email, phone, password), "
+	        		+ "business rule violations (email already exists) "
+	        		+ "or invalid argument types (e.g., non-numeric id in path)"),
+	        @ApiResponse(responseCode = "401", description = "Unauthorized. JWT token is missing or invalid"),
+	        @ApiResponse(responseCode = "404", description = "Customer not found")
+	    })
+	 @PatchMapping(value = "/{id}")
+		public ResponseEntity<CustomerResponse> patchCustomer(@PathVariable Long id, @Valid @RequestBody CustomerPatchRequest patchRequest);
+	 
 	 @Operation(summary = "Delete a customer", description = "Remove a customer from the system by id")
 	 @SecurityRequirement(name="Bearer Authentication")
 	    @ApiResponses(value = {
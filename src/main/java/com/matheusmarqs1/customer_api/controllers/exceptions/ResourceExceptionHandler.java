@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -14,7 +15,10 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.matheusmarqs1.customer_api.services.exceptions.BusinessException;
+import com.matheusmarqs1.customer_api.services.exceptions.InvalidTokenException;
 import com.matheusmarqs1.customer_api.services.exceptions.ResourceNotFoundException;
+import com.matheusmarqs1.customer_api.services.exceptions.ServiceUnavailableException;
+import com.matheusmarqs1.customer_api.services.exceptions.TooManyRequestsException;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -37,6 +41,22 @@ public class ResourceExceptionHandler {
 		return ResponseEntity.status(status).body(err);
 	}
 	
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<StandardError> handleServiceUnavailableException(ServiceUnavailableException e, HttpServletRequest request){
+		String error = "Service unavailable";
+		HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+		StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+		return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "1").body(err);
+	}
+	
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<StandardError> handleTooManyRequestsException(TooManyRequestsException e, HttpServletRequest request){
+		String error = "Too many requests";
+		HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+		StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+		return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds())).body(err);
+	}
+	
 	@ExceptionHandler(DateTimeParseException.class)
 	public ResponseEntity<StandardError> handleDateTimeParseException(DateTimeParseException e, HttpServletRequest request){
 		String error = "Invalid date format";
@@ -78,6 +98,14 @@ public class ResourceExceptionHandler {
 		return ResponseEntity.status(status).body(err);
 	}
 	
+	@ExceptionHandler(InvalidTokenException.class)
+	public ResponseEntity<StandardError> handleInvalidTokenException(InvalidTokenException e, HttpServletRequest request){
+		String error = "Invalid token";
+		HttpStatus status = HttpStatus.UNAUTHORIZED;
+		StandardError err = new StandardError(Instant.now(), status.value(), error, e.getMessage(), request.getRequestURI());
+		return ResponseEntity.status(status).body(err);
+	}
+	
 	@ExceptionHandler(BadCredentialsException.class)
 	public ResponseEntity<StandardError> handleBadCredentialsException(BadCredentialsException e, HttpServletRequest request){
 		String error = "Invalid credentials";
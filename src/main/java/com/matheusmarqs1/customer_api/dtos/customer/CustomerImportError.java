@@ -0,0 +1,12 @@
+package com.matheusmarqs1.customer_api.dtos.customer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CustomerImportError(
+		@Schema(description = "Line of the rejected row in the uploaded file, starting at 1", example = "42")
+		long line,
+		@Schema(description = "Why the row was rejected", example = "CPF already exists")
+		String message
+		) {
+
+}
@@ -0,0 +1,16 @@
+package com.matheusmarqs1.customer_api.dtos.customer;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CustomerImportResponse(
+		@Schema(description = "Number of customers inserted", example = "998")
+		long imported,
+		@Schema(description = "Number of rows rejected because they were malformed, invalid or duplicated", example = "2")
+		long rejected,
+		@Schema(description = "Why rows were rejected, ordered by line (capped, see customer.import.max-reported-errors)")
+		List<CustomerImportError> errors
+		) {
+
+}
@@ -0,0 +1,46 @@
+package com.matheusmarqs1.customer_api.dtos.customer;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Partial update of a customer: fields left out (or null) keep their current value.
+ */
+public record CustomerPatchRequest(
+		@Schema(description = "Full name of the customer", example = "João Pedro")
+		@Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+		@Pattern(regexp = ".*\\S.*", message = "Name must not be blank")
+		String name,
+		
+		@Schema(description = "Email address of the customer", example = "joaopedro@example.com")
+		@Size(max = 100, message = "Email must not exceed 100 characters")
+		@Email(message = "Invalid email format")
+		@Pattern(regexp = ".*\\S.*", message = "Email must not be blank")
+		String email,
+		
+		@Schema(description = "Birth date in yyyy-MM-dd format", example = "2001-08-06")
+		@Past(message = "Date of birth must be in the past")
+		@JsonFormat(pattern = "yyyy-MM-dd")
+		LocalDate birthDate,
+		
+		@Schema(description = "Phone number with only digits, must be between 10 and 11 digits", example = "11999999999")
+		@Size(min = 10, max = 11, message = "Phone number must be between 10 and 11 digits")
+		@Pattern(regexp = "^\\d+$", message = "Phone number must contain only digits")
+		String phone,
+		
+		@Schema(description = "New password with complexity requirements, only hashed when present", example = "AlkPQ12@")
+		@Size(min = 8, max = 20, message = "Password must be between 8 and 20 characters")
+		@Pattern(
+				regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*\\W)[A-Za-z\\d\\W_]+$", 
+				message = "Password must contain at least one uppercase letter, one lowercase letter, one number, and one special character")
+		String password
+		) {
+
+}
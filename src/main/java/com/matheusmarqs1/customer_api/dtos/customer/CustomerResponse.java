@@ -3,6 +3,7 @@ package com.matheusmarqs1.customer_api.dtos.customer;
 import java.time.LocalDate;
 
 import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.repositories.projections.CustomerSummary;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -29,6 +30,16 @@ public record CustomerResponse(
 						customer.getPhone(), 
 						customer.getAge()
 				);
-			}	
+			}
+			
+			public static CustomerResponse fromSummary(CustomerSummary customer) {
+				return new CustomerResponse(customer.id(), 
+						customer.name(), 
+						customer.email(), 
+						customer.birthDate(), 
+						customer.phone(), 
+						customer.age()
+				);
+			}
 
 }
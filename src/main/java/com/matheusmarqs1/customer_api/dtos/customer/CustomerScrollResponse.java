@@ -0,0 +1,19 @@
+package com.matheusmarqs1.customer_api.dtos.customer;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CustomerScrollResponse(
+		@Schema(description = "Customers in this window, in the requested sort order")
+		List<CustomerResponse> content,
+		@Schema(description = "Number of customers in this window", example = "10")
+		int size,
+		@Schema(description = "Whether more customers are available after this window", example = "true")
+		boolean hasNext,
+		@Schema(description = "Opaque cursor to pass as 'after' to fetch the next window, null on the last window",
+				example = "bmFtZXxBU0N8MnxBbmEgVGVsZXM")
+		String nextCursor
+		) {
+
+}
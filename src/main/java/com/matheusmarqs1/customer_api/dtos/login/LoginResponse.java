@@ -16,7 +16,10 @@ public record LoginResponse(
 		@Schema(description = "Token expiration time in GMT, formatted as ISO-8601 up to seconds", example = "2025-09-02T15:45:30Z")
 		@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "GMT")
 		Instant expiresAt,
-		Long id
+		Long id,
+		@Schema(description = "Opaque single-use token to obtain a new JWT from /customers/refresh without logging in again",
+		example = "Qm9vZ2llIG1hbiByZWZyZXNoIHRva2VuIGV4YW1wbGU")
+		String refreshToken
 		) {
 	
 }
@@ -0,0 +1,13 @@
+package com.matheusmarqs1.customer_api.dtos.login;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+		
+		@Schema(description = "Refresh token returned by the last login or refresh", example = "Qm9vZ2llIG1hbiByZWZyZXNoIHRva2VuIGV4YW1wbGU")
+		@NotBlank(message = "Refresh token is required")
+		String refreshToken
+) {
+
+}
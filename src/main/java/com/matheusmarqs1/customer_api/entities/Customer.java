@@ -5,29 +5,47 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.util.Objects;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
 import com.matheusmarqs1.customer_api.entities.enums.Role;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 @Entity
-@Table(name = "tb_customer")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customer")
+@Table(name = "tb_customer", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_customer_cpf", columnNames = "cpf"),
+		@UniqueConstraint(name = "uk_customer_email", columnNames = "email")
+})
 public class Customer implements Serializable {
 	private static final long serialVersionUID = 1L;
 	
+	/**
+	 * Ids come from a sequence reserved 50 at a time, so inserts know their id before reaching
+	 * the database and Hibernate can send them in JDBC batches (identity columns disable batching).
+	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+	@SequenceGenerator(name = "customer_seq", sequenceName = "tb_customer_seq", allocationSize = 50)
 	private Long id;
 	
 	@Column(nullable = false)
 	private String name;
-	@Column(nullable = false, unique = true)
+	@Column(nullable = false)
 	private String cpf;
-	@Column(nullable = false, unique = true)
+	@Column(nullable = false)
 	private String email;
 	@Column(nullable = false)
 	private LocalDate birthDate;
@@ -120,9 +138,14 @@ public class Customer implements Serializable {
 	}
 
 	public int getAge() {
-		LocalDate currentDate = LocalDate.now();
-		int age = Period.between(birthDate, currentDate).getYears();
-		return age;
+		return ageOf(birthDate);
+	}
+
+	/**
+	 * Age in whole years today of someone born on the given date, shared with the list projections.
+	 */
+	public static int ageOf(LocalDate birthDate) {
+		return Period.between(birthDate, LocalDate.now()).getYears();
 	}
 
 	@Override
@@ -0,0 +1,111 @@
+package com.matheusmarqs1.customer_api.entities;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Opaque refresh token issued at login. Only the SHA-256 of the token is stored, so a leaked table
+ * cannot be replayed. Each token is single use: refreshing revokes it and issues a replacement.
+ */
+@Entity
+@Table(name = "tb_refresh_token", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash")
+}, indexes = {
+		@Index(name = "idx_refresh_token_customer", columnList = "customer_id")
+})
+public class RefreshToken implements Serializable {
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	
+	@Column(name = "token_hash", nullable = false, length = 64)
+	private String tokenHash;
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "customer_id", nullable = false, foreignKey = @ForeignKey(name = "fk_refresh_token_customer"))
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	private Customer customer;
+	@Column(nullable = false)
+	private Instant expiresAt;
+	private Instant revokedAt;
+	
+	public RefreshToken() {
+	}
+
+	public RefreshToken(Long id, String tokenHash, Customer customer, Instant expiresAt) {
+		this.id = id;
+		this.tokenHash = tokenHash;
+		this.customer = customer;
+		this.expiresAt = expiresAt;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTokenHash() {
+		return tokenHash;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+
+	public Instant getRevokedAt() {
+		return revokedAt;
+	}
+
+	public void revoke(Instant when) {
+		if(revokedAt == null) {
+			revokedAt = when;
+		}
+	}
+	
+	public boolean isRevoked() {
+		return revokedAt != null;
+	}
+	
+	public boolean isExpired(Instant now) {
+		return !expiresAt.isAfter(now);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RefreshToken other = (RefreshToken) obj;
+		return Objects.equals(id, other.id);
+	}
+	
+}
@@ -0,0 +1,41 @@
+package com.matheusmarqs1.customer_api.metrics;
+
+import com.matheusmarqs1.customer_api.services.exceptions.BusinessException;
+import com.matheusmarqs1.customer_api.services.exceptions.ResourceNotFoundException;
+
+/**
+ * Value of the {@code outcome} tag shared by the service and repository timers, so latency can be split
+ * between successful calls, expected failures (404 and 400 responses) and unexpected errors.
+ */
+public enum Outcome {
+
+	OK("ok"),
+	NOT_FOUND("not-found"),
+	BUSINESS_ERROR("business-error"),
+	ERROR("error");
+
+	public static final String TAG = "outcome";
+
+	private final String value;
+
+	private Outcome(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	public static Outcome of(Throwable error) {
+		if(error == null) {
+			return OK;
+		}
+		if(error instanceof ResourceNotFoundException) {
+			return NOT_FOUND;
+		}
+		if(error instanceof BusinessException) {
+			return BUSINESS_ERROR;
+		}
+		return ERROR;
+	}
+}
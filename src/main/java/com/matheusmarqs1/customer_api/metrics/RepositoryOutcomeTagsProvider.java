@@ -0,0 +1,22 @@
+package com.matheusmarqs1.customer_api.metrics;
+
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Adds the {@link Outcome} tag to the {@code spring.data.repository.invocations} timer Spring Boot records
+ * around every repository call (query methods, specifications and the custom fragment alike), on top of
+ * the default repository, method, state and exception tags.
+ */
+@Component
+public class RepositoryOutcomeTagsProvider extends DefaultRepositoryTagsProvider {
+
+	@Override
+	public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+		return Tags.of(super.repositoryTags(invocation)).and(Outcome.TAG, Outcome.of(invocation.getResult().getError()).getValue());
+	}
+}
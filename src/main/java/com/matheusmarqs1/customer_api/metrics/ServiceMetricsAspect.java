@@ -0,0 +1,55 @@
+package com.matheusmarqs1.customer_api.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every public {@code CustomerService} method and token issuance as {@code service.invocations},
+ * tagged by service, method, {@link Outcome} and exception class.
+ * <p>
+ * The aspect runs outside the caching and transaction advice, so the recorded latency is what the caller
+ * sees: cache hits, the commit and any rollback included. Histogram buckets and percentiles are configured
+ * with the {@code management.metrics.distribution.*} properties.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+	public static final String METRIC_NAME = "service.invocations";
+
+	private final MeterRegistry meterRegistry;
+
+	public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Around("execution(public * com.matheusmarqs1.customer_api.services.CustomerService.*(..))"
+			+ " || execution(public * com.matheusmarqs1.customer_api.security.JwtService.generateTokenAndResponse(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		Throwable error = null;
+		try {
+			return joinPoint.proceed();
+		}
+		catch (Throwable e) {
+			error = e;
+			throw e;
+		}
+		finally {
+			sample.stop(Timer.builder(METRIC_NAME)
+					.tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+					.tag("method", joinPoint.getSignature().getName())
+					.tag(Outcome.TAG, Outcome.of(error).getValue())
+					.tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+					.register(meterRegistry));
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.matheusmarqs1.customer_api.repositories;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ObjectUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matheusmarqs1.customer_api.specifications.CustomerSpecs;
+
+/**
+ * Estimates how many customers match a search from the PostgreSQL planner statistics,
+ * so a paginated search can report a total without running a second, exact count query.
+ * An empty result means no estimate is available (other databases, or a table that was never analyzed)
+ * and the caller should fall back to an exact count.
+ */
+@Repository
+public class CustomerCountEstimator {
+
+	private static final String TABLE_ESTIMATE_SQL = "SELECT reltuples::bigint FROM pg_class WHERE oid = 'tb_customer'::regclass";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+	private volatile Boolean postgres;
+
+	public CustomerCountEstimator(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+	}
+
+	public OptionalLong estimate(String name, String cpf, String email, LocalDate birthDate, String phone) {
+		if(!isPostgres()) {
+			return OptionalLong.empty();
+		}
+
+		Where where = where(name, cpf, email, birthDate, phone);
+
+		try {
+			if(where.conditions().isEmpty()) {
+				Long reltuples = jdbcTemplate.queryForObject(TABLE_ESTIMATE_SQL, Long.class);
+				return (reltuples == null || reltuples < 0) ? OptionalLong.empty() : OptionalLong.of(reltuples);
+			}
+
+			String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM tb_customer WHERE " + where.sql();
+			String plan = jdbcTemplate.queryForObject(sql, String.class, where.args().toArray());
+			JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+			return rows.isNumber() ? OptionalLong.of(rows.asLong()) : OptionalLong.empty();
+		}
+		catch (DataAccessException | JsonProcessingException e) {
+			return OptionalLong.empty();
+		}
+	}
+
+	/**
+	 * The {@link CustomerSpecs} filters as plain SQL for the EXPLAIN. They must render to the same predicates
+	 * Hibernate generates for the specifications, which CustomerCountEstimatorTest checks for every filter.
+	 */
+	static Where where(String name, String cpf, String email, LocalDate birthDate, String phone) {
+		List<String> conditions = new ArrayList<>();
+		List<Object> args = new ArrayList<>();
+
+		if(!ObjectUtils.isEmpty(name)) {
+			conditions.add("name ILIKE ? ESCAPE '" + CustomerSpecs.LIKE_ESCAPE + "'");
+			args.add(CustomerSpecs.containsPattern(name));
+		}
+		if(!ObjectUtils.isEmpty(cpf)) {
+			conditions.add("cpf = ?");
+			args.add(cpf);
+		}
+		if(!ObjectUtils.isEmpty(email)) {
+			conditions.add("email = ?");
+			args.add(email);
+		}
+		if(birthDate != null) {
+			conditions.add("birth_date = ?");
+			args.add(birthDate);
+		}
+		if(!ObjectUtils.isEmpty(phone)) {
+			conditions.add("phone = ?");
+			args.add(phone);
+		}
+		return new Where(conditions, args);
+	}
+
+	record Where(List<String> conditions, List<Object> args) {
+
+		String sql() {
+			return String.join(" AND ", conditions);
+		}
+	}
+
+	private boolean isPostgres() {
+		if(postgres == null) {
+			String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+			postgres = "PostgreSQL".equalsIgnoreCase(product);
+		}
+		return postgres;
+	}
+}
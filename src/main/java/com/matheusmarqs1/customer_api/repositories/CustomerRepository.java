@@ -1,13 +1,43 @@
 package com.matheusmarqs1.customer_api.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.repositories.projections.CustomerNameProjection;
 
-public interface CustomerRepository extends JpaRepository<Customer, Long>, JpaSpecificationExecutor<Customer> {
-	Optional<Customer> findByCpf(String cpf);
+import jakarta.persistence.QueryHint;
+
+public interface CustomerRepository extends JpaRepository<Customer, Long>, JpaSpecificationExecutor<Customer>, CustomerRepositoryCustom {
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	Optional<Customer> findByEmail(String email);
+	
+	/** CPFs of the customers holding this CPF or this email (at most two), to reject a duplicate before hashing a password. */
+	@Query("select c.cpf from Customer c where c.cpf = :cpf or c.email = :email")
+	List<String> findCpfsByCpfOrEmail(@Param("cpf") String cpf, @Param("email") String email);
+	
+	boolean existsByEmail(String email);
+	
+	@Query("select new com.matheusmarqs1.customer_api.repositories.projections.CustomerNameProjection(c.id, c.name) from Customer c order by c.id")
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	Stream<CustomerNameProjection> streamAllNames();
+	
+	@Query("select c.cpf from Customer c where c.cpf in :cpfs")
+	Set<String> findExistingCpfs(@Param("cpfs") Collection<String> cpfs);
+	
+	@Query("select c.email from Customer c where c.email in :emails")
+	Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
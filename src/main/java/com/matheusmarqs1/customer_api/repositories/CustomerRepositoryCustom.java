@@ -0,0 +1,41 @@
+package com.matheusmarqs1.customer_api.repositories;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.repositories.projections.CustomerSummary;
+
+public interface CustomerRepositoryCustom {
+
+	/**
+	 * Inserts new customers in JDBC batches, then detaches them so a long import does not grow the
+	 * persistence context with every row it has written.
+	 */
+	void insertAll(List<Customer> customers);
+	
+	/**
+	 * Streams the customers matching the specification in id order. Rows are fetched {@code fetchSize} at a time,
+	 * bypass the second-level cache and are detached every {@code fetchSize} rows, so memory stays flat however
+	 * many customers match. The stream must be consumed inside a transaction and closed.
+	 */
+	Stream<Customer> streamAll(Specification<Customer> spec, int fetchSize);
+	
+	/**
+	 * Same search as {@code findAll(spec, pageable)}, but selects only the columns of a {@link CustomerSummary}:
+	 * the password hash, CPF and role are never read, and the rows are not managed entities, so they cost
+	 * no persistence context entry or dirty check.
+	 */
+	Page<CustomerSummary> findSummaries(Specification<Customer> spec, Pageable pageable);
+	
+	/**
+	 * Like {@link #findSummaries(Specification, Pageable)} without the count query: one extra row is read
+	 * to tell whether a next page exists.
+	 */
+	Slice<CustomerSummary> findSummarySlice(Specification<Customer> spec, Pageable pageable);
+}
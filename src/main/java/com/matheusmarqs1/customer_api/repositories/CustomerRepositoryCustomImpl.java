@@ -0,0 +1,110 @@
+package com.matheusmarqs1.customer_api.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.repositories.projections.CustomerSummary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class CustomerRepositoryCustomImpl implements CustomerRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public void insertAll(List<Customer> customers) {
+		customers.forEach(entityManager::persist);
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Override
+	public Stream<Customer> streamAll(Specification<Customer> spec, int fetchSize) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Customer> query = builder.createQuery(Customer.class);
+		Root<Customer> root = query.from(Customer.class);
+		applySpecification(spec, root, query, builder);
+		query.orderBy(builder.asc(root.get("id")));
+
+		AtomicLong count = new AtomicLong();
+		return entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+				.getResultStream()
+				.peek(customer -> {
+					if(count.incrementAndGet() % fetchSize == 0) {
+						entityManager.clear();
+					}
+				});
+	}
+
+	@Override
+	public Page<CustomerSummary> findSummaries(Specification<Customer> spec, Pageable pageable) {
+		List<CustomerSummary> content = summaryQuery(spec, pageable, pageable.isPaged() ? pageable.getPageSize() : 0).getResultList();
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+	}
+
+	@Override
+	public Slice<CustomerSummary> findSummarySlice(Specification<Customer> spec, Pageable pageable) {
+		List<CustomerSummary> content = new ArrayList<>(summaryQuery(spec, pageable, pageable.getPageSize() + 1).getResultList());
+		boolean hasNext = content.size() > pageable.getPageSize();
+		if(hasNext) {
+			content.remove(content.size() - 1);
+		}
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+
+	private TypedQuery<CustomerSummary> summaryQuery(Specification<Customer> spec, Pageable pageable, int maxResults) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<CustomerSummary> query = builder.createQuery(CustomerSummary.class);
+		Root<Customer> root = query.from(Customer.class);
+		query.select(builder.construct(CustomerSummary.class,
+				root.get("id"), root.get("name"), root.get("email"), root.get("birthDate"), root.get("phone")));
+		applySpecification(spec, root, query, builder);
+		query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+		TypedQuery<CustomerSummary> typedQuery = entityManager.createQuery(query);
+		if(pageable.isPaged()) {
+			typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+			typedQuery.setMaxResults(maxResults);
+		}
+		return typedQuery;
+	}
+
+	private long count(Specification<Customer> spec) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = builder.createQuery(Long.class);
+		Root<Customer> root = query.from(Customer.class);
+		query.select(builder.count(root));
+		applySpecification(spec, root, query, builder);
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	private static void applySpecification(Specification<Customer> spec, Root<Customer> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+		Predicate predicate = spec.toPredicate(root, query, builder);
+		if(predicate != null) {
+			query.where(predicate);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.matheusmarqs1.customer_api.repositories;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.matheusmarqs1.customer_api.entities.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+	@EntityGraph(attributePaths = "customer")
+	Optional<RefreshToken> findByTokenHash(String tokenHash);
+	
+	@Modifying(flushAutomatically = true)
+	@Query("update RefreshToken t set t.revokedAt = :now where t.id = :id and t.revokedAt is null")
+	int revokeIfActive(@Param("id") Long id, @Param("now") Instant now);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update RefreshToken t set t.revokedAt = :now where t.customer.id = :customerId and t.revokedAt is null")
+	int revokeAllByCustomerId(@Param("customerId") Long customerId, @Param("now") Instant now);
+	
+	@Modifying
+	@Query("delete from RefreshToken t where t.expiresAt < :now")
+	int deleteExpired(@Param("now") Instant now);
+}
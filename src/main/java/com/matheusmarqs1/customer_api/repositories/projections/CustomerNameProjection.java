@@ -0,0 +1,5 @@
+package com.matheusmarqs1.customer_api.repositories.projections;
+
+public record CustomerNameProjection(Long id, String name) {
+
+}
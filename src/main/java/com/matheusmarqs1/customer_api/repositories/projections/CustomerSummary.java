@@ -0,0 +1,15 @@
+package com.matheusmarqs1.customer_api.repositories.projections;
+
+import java.time.LocalDate;
+
+import com.matheusmarqs1.customer_api.entities.Customer;
+
+/**
+ * The columns a customer response is built from, without the password hash, CPF or role.
+ */
+public record CustomerSummary(Long id, String name, String email, LocalDate birthDate, String phone) {
+
+	public int age() {
+		return Customer.ageOf(birthDate);
+	}
+}
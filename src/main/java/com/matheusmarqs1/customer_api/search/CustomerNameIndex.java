@@ -0,0 +1,224 @@
+package com.matheusmarqs1.customer_api.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+import com.matheusmarqs1.customer_api.repositories.projections.CustomerNameProjection;
+
+/**
+ * In-memory trigram inverted index over {@code Customer.name}, for deployments where the database
+ * cannot serve substring searches from an index (no pg_trgm).
+ * <p>
+ * Every trigram of the lower-cased name maps to the sorted ids of the customers containing it, so a
+ * substring search resolves to candidate ids by intersecting the posting lists of the query trigrams.
+ * Candidates are a superset of the real matches (trigrams may appear in a different order), so the
+ * database still applies the name predicate, but only to rows fetched by primary key.
+ * <p>
+ * The index is rebuilt from the table when the application is ready and kept up to date by
+ * {@code CustomerService} after each committed write. Writes made by other application instances
+ * are not seen, so it is meant for single-instance deployments.
+ */
+@Component
+public class CustomerNameIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(CustomerNameIndex.class);
+
+	static final int GRAM_SIZE = 3;
+
+	private final CustomerRepository customerRepository;
+	private final boolean enabled;
+	private final int maxCandidates;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, LongPostingList> postings = new HashMap<>();
+	private volatile boolean ready;
+
+	public CustomerNameIndex(CustomerRepository customerRepository,
+			@Value("${customer.search.name-index.enabled:false}") boolean enabled,
+			@Value("${customer.search.name-index.max-candidates:10000}") int maxCandidates) {
+		this.customerRepository = customerRepository;
+		this.enabled = enabled;
+		this.maxCandidates = maxCandidates;
+	}
+
+	public boolean isReady() {
+		return enabled && ready;
+	}
+
+	/**
+	 * Resolves a name filter into the ids of the customers that may match it.
+	 * Returns an empty optional when the index cannot narrow the search (disabled, still loading,
+	 * query shorter than a trigram or too many candidates) and the database should evaluate the filter alone.
+	 */
+	public Optional<long[]> findCandidates(String query) {
+		if(!isReady() || query == null) {
+			return Optional.empty();
+		}
+
+		Set<String> grams = grams(normalize(query));
+		if(grams.isEmpty()) {
+			return Optional.empty();
+		}
+
+		lock.readLock().lock();
+		try {
+			List<LongPostingList> lists = new ArrayList<>(grams.size());
+			for(String gram : grams) {
+				LongPostingList list = postings.get(gram);
+				if(list == null) {
+					return Optional.of(new long[0]);
+				}
+				lists.add(list);
+			}
+			lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+			long[] candidates = lists.get(0).toArray();
+			for(int i = 1; i < lists.size() && candidates.length > 0; i++) {
+				candidates = lists.get(i).retainAll(candidates);
+			}
+			return candidates.length > maxCandidates ? Optional.empty() : Optional.of(candidates);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public void add(long id, String name) {
+		if(!enabled) {
+			return;
+		}
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				addGrams(id, name);
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	public void update(long id, String oldName, String newName) {
+		if(!enabled || normalize(oldName).equals(normalize(newName))) {
+			return;
+		}
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				removeGrams(id, grams(normalize(oldName)));
+				addGrams(id, newName);
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	public void remove(long id, String name) {
+		if(!enabled) {
+			return;
+		}
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				removeGrams(id, grams(normalize(name)));
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		if(!enabled) {
+			return;
+		}
+		long start = System.nanoTime();
+		int count = 0;
+		int trigrams;
+
+		lock.writeLock().lock();
+		try (Stream<CustomerNameProjection> names = customerRepository.streamAllNames()) {
+			postings.clear();
+			for(CustomerNameProjection customer : (Iterable<CustomerNameProjection>) names::iterator) {
+				addGrams(customer.id(), customer.name());
+				count++;
+			}
+			postings.values().forEach(LongPostingList::trimToSize);
+			trigrams = postings.size();
+			ready = true;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+
+		logger.info("Customer name index built with {} customers and {} trigrams in {} ms",
+				count, trigrams, (System.nanoTime() - start) / 1_000_000);
+	}
+
+	private void addGrams(long id, String name) {
+		for(String gram : grams(normalize(name))) {
+			postings.computeIfAbsent(gram, key -> new LongPostingList()).add(id);
+		}
+	}
+
+	private void removeGrams(long id, Iterable<String> grams) {
+		for(String gram : grams) {
+			LongPostingList list = postings.get(gram);
+			if(list != null && list.remove(id) && list.isEmpty()) {
+				postings.remove(gram);
+			}
+		}
+	}
+
+	static String normalize(String value) {
+		return value == null ? "" : value.toLowerCase(Locale.ROOT);
+	}
+
+	static Set<String> grams(String value) {
+		Set<String> grams = new LinkedHashSet<>();
+		for(int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+			grams.add(value.substring(i, i + GRAM_SIZE));
+		}
+		return grams;
+	}
+
+	/**
+	 * Index changes only become visible once the surrounding transaction commits, so a rolled back
+	 * update can never hide a customer from searches.
+	 */
+	private static void afterCommit(Runnable action) {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		}
+		else {
+			action.run();
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package com.matheusmarqs1.customer_api.search;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Execution statistics of customer searches per filter combination and kind of query, to find out from real
+ * traffic which combinations need an index.
+ * <p>
+ * Each search run through {@link #record} is aggregated (count, time, rows) under its
+ * {@link CustomerSearchFilters#combination()} and published as the {@code customer.search} timer and
+ * {@code customer.search.rows} summary. Searches slower than {@code customer.query-stats.slow-threshold} are
+ * logged, sampled at {@code customer.query-stats.slow-log.sample-rate}, with the request filters masked by
+ * {@link CustomerSearchFilters#masked()} and the SQL Hibernate ran for them (with its {@code ?} placeholders, not the
+ * bound values), and the latest {@code customer.query-stats.slow-log.size} are kept for the
+ * {@code querystats} actuator endpoint.
+ * <p>
+ * The SQL is captured by registering this component as Hibernate's {@link StatementInspector}: statements are
+ * only collected on a thread while one of its searches is running.
+ */
+@Component
+public class CustomerQueryStatistics implements StatementInspector, HibernatePropertiesCustomizer {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Logger logger = LoggerFactory.getLogger(CustomerQueryStatistics.class);
+
+	public static final String METRIC_NAME = "customer.search";
+
+	private final transient MeterRegistry meterRegistry;
+	private final long slowThresholdNanos;
+	private final double sampleRate;
+	private final int slowLogSize;
+
+	private final transient ThreadLocal<List<String>> statements = new ThreadLocal<>();
+	private final transient Map<Key, Aggregate> aggregates = new ConcurrentHashMap<>();
+	private final transient Deque<SlowSearch> slowSearches = new ArrayDeque<>();
+
+	public CustomerQueryStatistics(MeterRegistry meterRegistry,
+			@Value("${customer.query-stats.slow-threshold:PT0.2S}") Duration slowThreshold,
+			@Value("${customer.query-stats.slow-log.sample-rate:1.0}") double sampleRate,
+			@Value("${customer.query-stats.slow-log.size:100}") int slowLogSize) {
+		this.meterRegistry = meterRegistry;
+		this.slowThresholdNanos = slowThreshold.toNanos();
+		this.sampleRate = sampleRate;
+		this.slowLogSize = slowLogSize;
+	}
+
+	@Override
+	public void customize(Map<String, Object> hibernateProperties) {
+		hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+	}
+
+	@Override
+	public String inspect(String sql) {
+		List<String> captured = statements.get();
+		if(captured != null) {
+			captured.add(sql);
+		}
+		return sql;
+	}
+
+	/**
+	 * Runs a search and records it. {@code kind} tells apart the queries a combination can run with
+	 * ({@code page} with a count, {@code slice} without, {@code scroll}), {@code rows} counts what it returned.
+	 */
+	public <T> T record(String kind, CustomerSearchFilters filters, Supplier<T> search, ToIntFunction<T> rows) {
+		List<String> outer = statements.get();
+		List<String> captured = new ArrayList<>();
+		statements.set(captured);
+
+		long start = System.nanoTime();
+		T result;
+		try {
+			result = search.get();
+		}
+		finally {
+			if(outer == null) {
+				statements.remove();
+			}
+			else {
+				outer.addAll(captured);
+				statements.set(outer);
+			}
+		}
+		long nanos = System.nanoTime() - start;
+		int count = rows.applyAsInt(result);
+
+		String combination = filters.combination();
+		boolean slow = nanos >= slowThresholdNanos;
+		aggregates.computeIfAbsent(new Key(kind, combination), key -> new Aggregate()).add(nanos, count, slow);
+		Timer.builder(METRIC_NAME).tag("kind", kind).tag("filters", combination).register(meterRegistry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+		DistributionSummary.builder(METRIC_NAME + ".rows").tag("kind", kind).tag("filters", combination).register(meterRegistry)
+				.record(count);
+
+		if(slow && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+			SlowSearch slowSearch = new SlowSearch(Instant.now(), kind, combination, filters.masked(), nanos / 1e6, count, List.copyOf(captured));
+			logger.warn("Slow customer search: {} ms, {} rows, {} {} {} SQL: {}", String.format("%.1f", slowSearch.millis()), count,
+					kind, combination, slowSearch.parameters(), slowSearch.sql());
+			synchronized (slowSearches) {
+				slowSearches.addFirst(slowSearch);
+				while(slowSearches.size() > slowLogSize) {
+					slowSearches.removeLast();
+				}
+			}
+		}
+		return result;
+	}
+
+	/** Statistics per kind and filter combination, the largest total time first. */
+	public List<SearchStats> searches() {
+		return aggregates.entrySet().stream()
+				.map(entry -> entry.getValue().toStats(entry.getKey()))
+				.sorted(Comparator.comparingDouble(SearchStats::totalMillis).reversed())
+				.toList();
+	}
+
+	/** Latest slow searches kept, the most recent first. */
+	public List<SlowSearch> slowSearches() {
+		synchronized (slowSearches) {
+			return List.copyOf(slowSearches);
+		}
+	}
+
+	public void reset() {
+		aggregates.clear();
+		synchronized (slowSearches) {
+			slowSearches.clear();
+		}
+	}
+
+	public record SearchStats(String kind, String filters, long count, double totalMillis, double meanMillis, double maxMillis,
+			double meanRows, long slowCount) {
+	}
+
+	public record SlowSearch(Instant timestamp, String kind, String filters, Map<String, String> parameters, double millis,
+			int rows, List<String> sql) {
+	}
+
+	private record Key(String kind, String filters) {
+	}
+
+	private static final class Aggregate {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+		private final LongAdder rows = new LongAdder();
+		private final LongAdder slow = new LongAdder();
+
+		void add(long elapsedNanos, int rowCount, boolean isSlow) {
+			count.increment();
+			nanos.add(elapsedNanos);
+			maxNanos.accumulate(elapsedNanos);
+			rows.add(rowCount);
+			if(isSlow) {
+				slow.increment();
+			}
+		}
+
+		SearchStats toStats(Key key) {
+			long total = count.sum();
+			double totalMillis = nanos.sum() / 1e6;
+			return new SearchStats(key.kind(), key.filters(), total, totalMillis,
+					total == 0 ? 0 : totalMillis / total,
+					maxNanos.get() / 1e6,
+					total == 0 ? 0 : (double) rows.sum() / total,
+					slow.sum());
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.matheusmarqs1.customer_api.search;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.matheusmarqs1.customer_api.search.CustomerQueryStatistics.SearchStats;
+import com.matheusmarqs1.customer_api.search.CustomerQueryStatistics.SlowSearch;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * {@code /actuator/querystats}: customer search statistics per filter combination, the latest slow searches and
+ * a summary of the Hibernate statistics (when {@code hibernate.generate_statistics} is on). A DELETE resets them,
+ * e.g. before measuring a new index.
+ */
+@Component
+@Endpoint(id = "querystats")
+public class CustomerQueryStatsEndpoint {
+
+	private final CustomerQueryStatistics customerQueryStatistics;
+	private final Statistics hibernateStatistics;
+
+	public CustomerQueryStatsEndpoint(CustomerQueryStatistics customerQueryStatistics, EntityManagerFactory entityManagerFactory) {
+		this.customerQueryStatistics = customerQueryStatistics;
+		this.hibernateStatistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@ReadOperation
+	public QueryStatsReport report() {
+		return new QueryStatsReport(customerQueryStatistics.searches(), customerQueryStatistics.slowSearches(), HibernateSummary.of(hibernateStatistics));
+	}
+
+	@DeleteOperation
+	public void reset() {
+		customerQueryStatistics.reset();
+		hibernateStatistics.clear();
+	}
+
+	public record QueryStatsReport(List<SearchStats> searches, List<SlowSearch> slowSearches, HibernateSummary hibernate) {
+	}
+
+	public record HibernateSummary(boolean enabled, long queryExecutionCount, long queryExecutionMaxTimeMillis,
+			String slowestQuery, long prepareStatementCount, long entityLoadCount, long secondLevelCacheHitCount,
+			long secondLevelCacheMissCount) {
+
+		static HibernateSummary of(Statistics statistics) {
+			return new HibernateSummary(statistics.isStatisticsEnabled(),
+					statistics.getQueryExecutionCount(),
+					statistics.getQueryExecutionMaxTime(),
+					statistics.getQueryExecutionMaxTimeQueryString(),
+					statistics.getPrepareStatementCount(),
+					statistics.getEntityLoadCount(),
+					statistics.getSecondLevelCacheHitCount(),
+					statistics.getSecondLevelCacheMissCount());
+		}
+	}
+}
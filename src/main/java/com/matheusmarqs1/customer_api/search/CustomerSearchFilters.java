@@ -0,0 +1,75 @@
+package com.matheusmarqs1.customer_api.search;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Filters of one customer search, as recorded by {@link CustomerQueryStatistics}.
+ */
+public record CustomerSearchFilters(String name, String cpf, String email, LocalDate birthDate, String phone) {
+
+	/**
+	 * Names of the filters in use, joined with {@code +} in a fixed order (e.g. {@code name+email}),
+	 * or {@code none} for an unfiltered search. At most 32 combinations, so it is safe as a metric tag.
+	 */
+	public String combination() {
+		StringJoiner joiner = new StringJoiner("+");
+		joiner.setEmptyValue("none");
+		values().keySet().forEach(joiner::add);
+		return joiner.toString();
+	}
+
+	/**
+	 * Values of the filters in use as logged in the slow-query log: each word of the name keeps its first letter,
+	 * the birth date keeps only its year, and CPF, email and phone keep a few leading and trailing characters.
+	 * The masked values are still partial personal data, so access to the log stays restricted to admins.
+	 */
+	public Map<String, String> masked() {
+		Map<String, String> masked = values();
+		masked.computeIfPresent("name", (key, value) -> Arrays.stream(value.trim().split("\\s+"))
+				.map(word -> mask(word, 1, 0))
+				.collect(Collectors.joining(" ")));
+		masked.computeIfPresent("birthDate", (key, value) -> birthDate.getYear() + "-**-**");
+		masked.computeIfPresent("cpf", (key, value) -> mask(value, 3, 2));
+		masked.computeIfPresent("email", (key, value) -> {
+			int at = value.indexOf('@');
+			return at < 0 ? mask(value, 1, 0) : mask(value.substring(0, at), 1, 0) + value.substring(at);
+		});
+		masked.computeIfPresent("phone", (key, value) -> mask(value, 2, 2));
+		return masked;
+	}
+
+	private Map<String, String> values() {
+		Map<String, String> values = new LinkedHashMap<>();
+		if(!ObjectUtils.isEmpty(name)) {
+			values.put("name", name);
+		}
+		if(!ObjectUtils.isEmpty(cpf)) {
+			values.put("cpf", cpf);
+		}
+		if(!ObjectUtils.isEmpty(email)) {
+			values.put("email", email);
+		}
+		if(birthDate != null) {
+			values.put("birthDate", birthDate.toString());
+		}
+		if(!ObjectUtils.isEmpty(phone)) {
+			values.put("phone", phone);
+		}
+		return values;
+	}
+
+	/** Keeps the first and last characters and replaces the others with {@code *}, keeping the length. */
+	static String mask(String value, int keepStart, int keepEnd) {
+		if(value.length() <= keepStart + keepEnd) {
+			return "*".repeat(value.length());
+		}
+		return value.substring(0, keepStart) + "*".repeat(value.length() - keepStart - keepEnd) + value.substring(value.length() - keepEnd);
+	}
+}
@@ -0,0 +1,95 @@
+package com.matheusmarqs1.customer_api.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of customer ids backed by a primitive {@code long[]}.
+ * Ids are assigned in increasing order, so appends are the common case and stay O(1) amortized.
+ * Not thread-safe; {@link CustomerNameIndex} guards every access.
+ */
+class LongPostingList {
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	private long[] ids = new long[INITIAL_CAPACITY];
+	private int size;
+
+	void add(long id) {
+		if(size > 0 && ids[size - 1] < id) {
+			ensureCapacity();
+			ids[size++] = id;
+			return;
+		}
+		int index = Arrays.binarySearch(ids, 0, size, id);
+		if(index >= 0) {
+			return;
+		}
+		int insertAt = -index - 1;
+		ensureCapacity();
+		System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+		ids[insertAt] = id;
+		size++;
+	}
+
+	boolean remove(long id) {
+		int index = Arrays.binarySearch(ids, 0, size, id);
+		if(index < 0) {
+			return false;
+		}
+		System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+		size--;
+		return true;
+	}
+
+	boolean contains(long id) {
+		return Arrays.binarySearch(ids, 0, size, id) >= 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	long[] toArray() {
+		return Arrays.copyOf(ids, size);
+	}
+
+	/**
+	 * Keeps only the ids of {@code candidates} (sorted ascending) that are also in this list.
+	 */
+	long[] retainAll(long[] candidates) {
+		long[] result = new long[Math.min(candidates.length, size)];
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while(i < candidates.length && j < size) {
+			if(candidates[i] == ids[j]) {
+				result[count++] = candidates[i];
+				i++;
+				j++;
+			}
+			else if(candidates[i] < ids[j]) {
+				i++;
+			}
+			else {
+				j++;
+			}
+		}
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	void trimToSize() {
+		if(size < ids.length) {
+			ids = Arrays.copyOf(ids, size);
+		}
+	}
+
+	private void ensureCapacity() {
+		if(size == ids.length) {
+			ids = Arrays.copyOf(ids, Math.max(INITIAL_CAPACITY, ids.length + (ids.length >> 1)));
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.matheusmarqs1.customer_api.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt encoder that asks for a re-hash whenever the stored cost differs from the configured one,
+ * in either direction. {@link BCryptPasswordEncoder} only upgrades weaker hashes, which would leave
+ * hashes stuck at a higher cost after the work factor is lowered for an environment.
+ */
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+	private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abyx]?\\$(\\d\\d)\\$");
+
+	private final int strength;
+
+	public AdaptiveBCryptPasswordEncoder(int strength) {
+		super(strength);
+		this.strength = strength;
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if(encodedPassword == null) {
+			return false;
+		}
+		Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+		return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+	}
+}
@@ -0,0 +1,95 @@
+package com.matheusmarqs1.customer_api.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Remembers tokens that already passed signature and claim validation, so a client reusing the same
+ * bearer token only pays the signature verification on its first request.
+ * <p>
+ * Entries are keyed by the SHA-256 of the token and hold only its headers and claims, not the token string
+ * ({@link Jwt#getTokenValue()} is put back from the request on each hit), so the cache never holds usable
+ * tokens. They expire at the token's {@code exp}. Tokens that fail validation are never cached. Hits and misses are published
+ * as the {@code cache.*{cache=jwt}} metrics.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+	private final JwtDecoder delegate;
+	private final Clock clock;
+	private final Cache<String, VerifiedToken> cache;
+
+	public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry) {
+		this(delegate, maximumSize, Clock.systemUTC(), Ticker.systemTicker());
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt");
+	}
+
+	CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Clock clock, Ticker ticker) {
+		this.delegate = delegate;
+		this.clock = clock;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(Expiry.creating((String key, VerifiedToken verified) -> timeToLive(verified.expiresAt())))
+				.ticker(ticker)
+				.recordStats()
+				.build();
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		String key = sha256(token);
+		VerifiedToken verified = cache.getIfPresent(key);
+		if(verified != null) {
+			return verified.toJwt(token);
+		}
+		Jwt jwt = delegate.decode(token);
+		cache.put(key, VerifiedToken.of(jwt));
+		return jwt;
+	}
+
+	private Duration timeToLive(Instant expiresAt) {
+		if(expiresAt == null) {
+			return Duration.ZERO;
+		}
+		Duration remaining = Duration.between(Instant.now(clock), expiresAt);
+		return remaining.isNegative() ? Duration.ZERO : remaining;
+	}
+
+	private record VerifiedToken(Instant issuedAt, Instant expiresAt, Map<String, Object> headers, Map<String, Object> claims) {
+
+		static VerifiedToken of(Jwt jwt) {
+			return new VerifiedToken(jwt.getIssuedAt(), jwt.getExpiresAt(), jwt.getHeaders(), jwt.getClaims());
+		}
+
+		Jwt toJwt(String token) {
+			return new Jwt(token, issuedAt, expiresAt, headers, claims);
+		}
+	}
+
+	private static String sha256(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().encodeToString(digest);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
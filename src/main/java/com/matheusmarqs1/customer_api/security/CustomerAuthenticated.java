@@ -1,36 +1,58 @@
 package com.matheusmarqs1.customer_api.security;
 
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
 
+/**
+ * Immutable snapshot of the fields authentication needs, detached from the {@link Customer} entity
+ * so it can be kept in the principal cache. It deliberately does not implement
+ * {@code CredentialsContainer}, so erasing credentials after a login never clears the cached hash.
+ */
 public class CustomerAuthenticated implements UserDetails {
 	private static final long serialVersionUID = 1L;
 	
-	private final Customer customer;
+	private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+	
+	static {
+		for(Role role : Role.values()) {
+			AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.name())));
+		}
+	}
+	
+	private final Long id;
+	private final String email;
+	private final String password;
+	private final Role role;
 	
 	public CustomerAuthenticated(Customer customer) {
-		this.customer = customer;
+		this.id = customer.getId();
+		this.email = customer.getEmail();
+		this.password = customer.getPassword();
+		this.role = customer.getRole();
 	}
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
-		return List.of(new SimpleGrantedAuthority(customer.getRole().name()));
+		return AUTHORITIES.get(role);
 	}
 
 	@Override
 	public String getPassword() {
-		return customer.getPassword();
+		return password;
 	}
 
 	@Override
 	public String getUsername() {
-		return customer.getEmail();
+		return email;
 	}
 	
 	@Override
@@ -54,7 +76,11 @@ public class CustomerAuthenticated implements UserDetails {
 	}
 	
 	public Long getId() {
-		return customer.getId();
+		return id;
+	}
+	
+	public Role getRole() {
+		return role;
 	}
 
-}
\ No newline at end of file
+}
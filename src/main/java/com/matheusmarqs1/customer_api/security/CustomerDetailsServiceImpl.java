@@ -1,19 +1,24 @@
 package com.matheusmarqs1.customer_api.security;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.matheusmarqs1.customer_api.entities.Customer;
 import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
 
 @Service
-public class CustomerDetailsServiceImpl implements UserDetailsService {
+public class CustomerDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 	
 	private final CustomerRepository customerRepository;
+	private final CustomerPrincipalCache customerPrincipalCache;
 	
-	public CustomerDetailsServiceImpl(CustomerRepository customerRepository) {
+	public CustomerDetailsServiceImpl(CustomerRepository customerRepository, CustomerPrincipalCache customerPrincipalCache) {
 		this.customerRepository = customerRepository;
+		this.customerPrincipalCache = customerPrincipalCache;
 	}
 	
 	/**
@@ -23,9 +28,23 @@ public class CustomerDetailsServiceImpl implements UserDetailsService {
      */
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-		return customerRepository.findByEmail(username)
-				.map(CustomerAuthenticated::new)
+		return customerPrincipalCache.get(username, email -> customerRepository.findByEmail(email).map(CustomerAuthenticated::new))
 				.orElseThrow(() -> new UsernameNotFoundException("Customer not found with the provided email"));
 	}
+	
+	/**
+	 * Called by Spring Security after a successful login when the stored hash no longer matches the
+	 * configured encoding (different BCrypt cost, or a hash saved without the {bcrypt} prefix).
+	 */
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		Customer customer = customerRepository.findByEmail(user.getUsername())
+				.orElseThrow(() -> new UsernameNotFoundException("Customer not found with the provided email"));
+		
+		customer.setPassword(newPassword);
+		customerPrincipalCache.evict(customer.getEmail());
+		return new CustomerAuthenticated(customerRepository.save(customer));
+	}
 
 }
@@ -0,0 +1,55 @@
+package com.matheusmarqs1.customer_api.security;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.matheusmarqs1.customer_api.config.CacheConfig;
+
+/**
+ * Short-lived cache of login principals keyed by normalized (trimmed, lower-cased) email.
+ * Unknown emails are cached too, so repeated attempts against accounts that do not exist
+ * do not reach the database either.
+ * <p>
+ * Email lookups in the database are case sensitive, so an entry only answers for the exact email
+ * it was loaded with; other spellings of the same key go to the database without touching the entry.
+ * Evictions go through the transaction-aware cache manager and take effect when the transaction
+ * that changed the customer commits.
+ */
+@Component
+public class CustomerPrincipalCache {
+
+	private final Cache cache;
+
+	public CustomerPrincipalCache(CacheManager cacheManager) {
+		this.cache = cacheManager.getCache(CacheConfig.PRINCIPALS_CACHE);
+	}
+
+	public Optional<CustomerAuthenticated> get(String email, Function<String, Optional<CustomerAuthenticated>> loader) {
+		Entry entry = cache.get(normalize(email), Entry.class);
+		if(entry != null) {
+			return entry.email().equals(email) ? Optional.ofNullable(entry.principal()) : loader.apply(email);
+		}
+
+		Optional<CustomerAuthenticated> principal = loader.apply(email);
+		cache.put(normalize(email), new Entry(email, principal.orElse(null)));
+		return principal;
+	}
+
+	public void evict(String email) {
+		if(email != null) {
+			cache.evict(normalize(email));
+		}
+	}
+
+	static String normalize(String email) {
+		return email == null ? "" : email.strip().toLowerCase(Locale.ROOT);
+	}
+
+	private record Entry(String email, CustomerAuthenticated principal) {
+	}
+}
@@ -0,0 +1,177 @@
+package com.matheusmarqs1.customer_api.security;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+/**
+ * Key material for signing and verifying access tokens.
+ * <p>
+ * Tokens are signed with {@code jwt.private.key} using {@code jwt.algorithm} (RS256 or ES256 on the P-256 curve).
+ * Every key gets its RFC 7638 thumbprint as key id, and the id is written to the token header. Public keys listed
+ * in {@code jwt.previous.public-keys} are still accepted for verification, so rotating the signing key does not
+ * invalidate tokens issued with the previous one: move the old public key to that list and deploy the new pair.
+ * Keys are read as raw base64 or from the classpath with the {@code classpath:} prefix, as PEM files.
+ */
+@Component
+public class JwtKeys {
+
+	private final SignatureAlgorithm algorithm;
+	private final JWK signingKey;
+	private final JWKSet verificationKeys;
+	private final JwsHeader header;
+
+	public JwtKeys(@Value("${jwt.algorithm:RS256}") String algorithm,
+			@Value("${jwt.public.key}") String publicKey,
+			@Value("${jwt.private.key}") String privateKey,
+			@Value("${jwt.previous.public-keys:}") List<String> previousPublicKeys) throws IOException, GeneralSecurityException, JOSEException {
+		this.algorithm = SignatureAlgorithm.from(algorithm);
+		if(this.algorithm != SignatureAlgorithm.RS256 && this.algorithm != SignatureAlgorithm.ES256) {
+			throw new IllegalArgumentException("Unsupported jwt.algorithm '" + algorithm + "', expected RS256 or ES256");
+		}
+
+		this.signingKey = signingKey(readPublicKey(publicKey), readPrivateKey(privateKey));
+
+		List<JWK> keys = new ArrayList<>();
+		keys.add(signingKey.toPublicJWK());
+		for(String previous : previousPublicKeys) {
+			if(!previous.isBlank()) {
+				keys.add(publicJwk(readPublicKey(previous.strip())));
+			}
+		}
+		this.verificationKeys = new JWKSet(keys);
+		this.header = JwsHeader.with(this.algorithm).keyId(signingKey.getKeyID()).build();
+	}
+
+	public SignatureAlgorithm algorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * Header for newly issued tokens, carrying the algorithm and the id of the current signing key.
+	 */
+	public JwsHeader header() {
+		return header;
+	}
+
+	public JWKSet verificationKeys() {
+		return verificationKeys;
+	}
+
+	public JwtEncoder encoder() {
+		return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(signingKey)));
+	}
+
+	/**
+	 * Decoder accepting tokens signed by any configured key. Tokens issued before key ids were written
+	 * to the header are matched against every key of their algorithm.
+	 */
+	public JwtDecoder decoder() {
+		Set<JWSAlgorithm> algorithms = new LinkedHashSet<>();
+		for(JWK key : verificationKeys.getKeys()) {
+			algorithms.add(JWSAlgorithm.parse(key.getAlgorithm().getName()));
+		}
+		
+		DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+		jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, new ImmutableJWKSet<>(verificationKeys)));
+		// Claims are validated by NimbusJwtDecoder (expiry and not-before), as with the Spring builders
+		jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+		return new NimbusJwtDecoder(jwtProcessor);
+	}
+
+	private JWK signingKey(PublicKey publicKey, PrivateKey privateKey) throws JOSEException {
+		if(algorithm == SignatureAlgorithm.ES256) {
+			if(!(publicKey instanceof ECPublicKey ecPublicKey) || !(privateKey instanceof ECPrivateKey ecPrivateKey)
+					|| !Curve.P_256.equals(Curve.forECParameterSpec(ecPublicKey.getParams()))) {
+				throw new IllegalArgumentException("jwt.algorithm ES256 requires a P-256 EC key pair");
+			}
+			return new ECKey.Builder(Curve.P_256, ecPublicKey).privateKey(ecPrivateKey)
+					.algorithm(JWSAlgorithm.ES256).keyIDFromThumbprint().build();
+		}
+		if(!(publicKey instanceof RSAPublicKey rsaPublicKey) || !(privateKey instanceof RSAPrivateKey rsaPrivateKey)) {
+			throw new IllegalArgumentException("jwt.algorithm RS256 requires an RSA key pair");
+		}
+		return new RSAKey.Builder(rsaPublicKey).privateKey(rsaPrivateKey)
+				.algorithm(JWSAlgorithm.RS256).keyIDFromThumbprint().build();
+	}
+
+	private static JWK publicJwk(PublicKey publicKey) throws JOSEException {
+		if(publicKey instanceof ECPublicKey ecPublicKey) {
+			return new ECKey.Builder(Curve.forECParameterSpec(ecPublicKey.getParams()), ecPublicKey)
+					.algorithm(JWSAlgorithm.ES256).keyIDFromThumbprint().build();
+		}
+		return new RSAKey.Builder((RSAPublicKey) publicKey)
+				.algorithm(JWSAlgorithm.RS256).keyIDFromThumbprint().build();
+	}
+
+	private static PublicKey readPublicKey(String location) throws IOException, GeneralSecurityException {
+		X509EncodedKeySpec spec = new X509EncodedKeySpec(readKey(location));
+		try {
+			return KeyFactory.getInstance("RSA").generatePublic(spec);
+		}
+		catch (InvalidKeySpecException e) {
+			return KeyFactory.getInstance("EC").generatePublic(spec);
+		}
+	}
+
+	private static PrivateKey readPrivateKey(String location) throws IOException, GeneralSecurityException {
+		PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(readKey(location));
+		try {
+			return KeyFactory.getInstance("RSA").generatePrivate(spec);
+		}
+		catch (InvalidKeySpecException e) {
+			return KeyFactory.getInstance("EC").generatePrivate(spec);
+		}
+	}
+
+	private static byte[] readKey(String location) throws IOException {
+		String key;
+		if (location.startsWith("classpath:")) {
+			key = new String(new ClassPathResource(location.replace("classpath:", "")).getInputStream().readAllBytes());
+			
+			key = key.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+					 .replaceAll("\\s", "");
+		}
+		else {
+			key = location;
+		}
+		return Base64.getDecoder().decode(key);
+	}
+}
@@ -1,54 +1,65 @@
 package com.matheusmarqs1.customer_api.security;
 
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
 import com.matheusmarqs1.customer_api.dtos.login.LoginResponse;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
 
 @Service
 public class JwtService {
+	private static final String ISSUER = "customer-api";
+	
 	private final  JwtEncoder encoder;
+	private final JwtKeys jwtKeys;
 	private final Long expiry = 900L;
+	private final Map<Role, RoleClaims> roleClaims = new EnumMap<>(Role.class);
 	
-	public JwtService(JwtEncoder encoder) {
+	public JwtService(JwtEncoder encoder, JwtKeys jwtKeys) {
 		this.encoder = encoder;
+		this.jwtKeys = jwtKeys;
+		for(Role role : Role.values()) {
+			roleClaims.put(role, new RoleClaims(role.name(), List.of(role.name())));
+		}
+	}
+	
+	public LoginResponse generateTokenAndResponse(Authentication authentication, String refreshToken) {
+		return generateTokenAndResponse((CustomerAuthenticated) authentication.getPrincipal(), refreshToken);
 	}
 	
-	public LoginResponse generateTokenAndResponse(Authentication authentication) {
+	public LoginResponse generateTokenAndResponse(CustomerAuthenticated customerAuthenticated, String refreshToken) {
 		Instant now = Instant.now();
 		Instant expiresAt = now.plusSeconds(expiry);
 		
-		CustomerAuthenticated customerAuthenticated = (CustomerAuthenticated) authentication.getPrincipal();
-		
-		String scopes = authentication.getAuthorities().stream()
-				.map(GrantedAuthority::getAuthority)
-				.collect(Collectors.joining(" "));
+		RoleClaims claimsForRole = roleClaims.get(customerAuthenticated.getRole());
 		
 		var claims = JwtClaimsSet.builder()
-				.issuer("customer-api")
+				.issuer(ISSUER)
 				.issuedAt(now)
 				.expiresAt(expiresAt)
-				.subject(authentication.getName())
-				.claim("scope", scopes)
+				.subject(customerAuthenticated.getUsername())
+				.claim("scope", claimsForRole.scope())
 				.claim("customerId", customerAuthenticated.getId())
 				.build();
 		
-		String token = encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
-	    
-	    List<String> roles = authentication.getAuthorities().stream()
-	        .map(GrantedAuthority::getAuthority)
-	        .collect(Collectors.toList());
+		String token = encoder.encode(JwtEncoderParameters.from(jwtKeys.header(), claims)).getTokenValue();
 
-	    return new LoginResponse(token, roles, expiresAt, customerAuthenticated.getId());
+	    return new LoginResponse(token, claimsForRole.roles(), expiresAt, customerAuthenticated.getId(), refreshToken);
 	}
 	
+	/**
+	 * Scope claim and role list shared by every token issued for a role. Customers hold exactly one role,
+	 * so they are built once here instead of streaming the granted authorities on every login.
+	 */
+	private record RoleClaims(String scope, List<String> roles) {
+	}
 
 }
@@ -0,0 +1,86 @@
+package com.matheusmarqs1.customer_api.security;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.matheusmarqs1.customer_api.services.exceptions.TooManyRequestsException;
+
+/**
+ * Limits login attempts per email and per client IP before any password is checked, so a brute-force
+ * burst is rejected without spending a BCrypt verification per request.
+ * <p>
+ * Each key gets a {@link TokenBucket}. Buckets live in bounded caches that drop keys idle for longer than
+ * it takes to refill them completely, so memory stays bounded no matter how many emails or addresses are tried.
+ */
+@Component
+public class LoginRateLimiter {
+
+	private final boolean enabled;
+	private final Limit emailLimit;
+	private final Limit ipLimit;
+	private final LongSupplier nanoTime;
+
+	@Autowired
+	public LoginRateLimiter(
+			@Value("${customer.security.login-rate-limit.enabled:true}") boolean enabled,
+			@Value("${customer.security.login-rate-limit.email.capacity:5}") int emailCapacity,
+			@Value("${customer.security.login-rate-limit.email.refill-period:PT1M}") Duration emailRefillPeriod,
+			@Value("${customer.security.login-rate-limit.ip.capacity:20}") int ipCapacity,
+			@Value("${customer.security.login-rate-limit.ip.refill-period:PT1M}") Duration ipRefillPeriod,
+			@Value("${customer.security.login-rate-limit.maximum-keys:100000}") long maximumKeys) {
+		this(enabled, emailCapacity, emailRefillPeriod, ipCapacity, ipRefillPeriod, maximumKeys, System::nanoTime);
+	}
+
+	LoginRateLimiter(boolean enabled, int emailCapacity, Duration emailRefillPeriod, int ipCapacity, Duration ipRefillPeriod,
+			long maximumKeys, LongSupplier nanoTime) {
+		this.enabled = enabled;
+		this.nanoTime = nanoTime;
+		this.emailLimit = new Limit(emailCapacity, emailRefillPeriod, maximumKeys);
+		this.ipLimit = new Limit(ipCapacity, ipRefillPeriod, maximumKeys);
+	}
+
+	/**
+	 * Consumes one attempt for the email and one for the client address.
+	 * Throws {@link TooManyRequestsException} with the time to wait when either is exhausted.
+	 */
+	public void acquire(String email, String clientIp) {
+		if(!enabled) {
+			return;
+		}
+		long now = nanoTime.getAsLong();
+		long wait = ipLimit.tryConsume(clientIp == null ? "" : clientIp, now);
+		if(wait == 0) {
+			wait = emailLimit.tryConsume(CustomerPrincipalCache.normalize(email), now);
+		}
+		if(wait > 0) {
+			Duration retryAfter = Duration.ofSeconds(Math.max(1, (wait + 999_999_999L) / 1_000_000_000L));
+			throw new TooManyRequestsException("Too many login attempts, please try again later", retryAfter);
+		}
+	}
+
+	private static final class Limit {
+
+		private final int capacity;
+		private final long refillNanos;
+		private final Cache<String, TokenBucket> buckets;
+
+		Limit(int capacity, Duration refillPeriod, long maximumKeys) {
+			this.capacity = capacity;
+			this.refillNanos = refillPeriod.toNanos() / capacity;
+			this.buckets = Caffeine.newBuilder()
+					.maximumSize(maximumKeys)
+					.expireAfterAccess(refillPeriod)
+					.build();
+		}
+
+		long tryConsume(String key, long now) {
+			return buckets.get(key, k -> new TokenBucket(capacity, refillNanos, now)).tryConsume(now);
+		}
+	}
+}
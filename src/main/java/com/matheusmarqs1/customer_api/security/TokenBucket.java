@@ -0,0 +1,41 @@
+package com.matheusmarqs1.customer_api.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding up to {@code capacity} tokens and refilling one every {@code refillNanos}.
+ * <p>
+ * Instead of a token count and a refill timestamp, the whole state is the instant at which the bucket
+ * will be full again (the generic cell rate formulation), so taking a token is a single compare-and-set
+ * and contended buckets never block.
+ */
+class TokenBucket {
+
+	private final long refillNanos;
+	private final long burstNanos;
+	private final AtomicLong fullAt;
+
+	TokenBucket(int capacity, long refillNanos, long now) {
+		this.refillNanos = refillNanos;
+		this.burstNanos = capacity * refillNanos;
+		this.fullAt = new AtomicLong(now);
+	}
+
+	/**
+	 * Takes a token if one is available.
+	 * Returns 0 on success, otherwise how many nanoseconds to wait until a token is available.
+	 */
+	long tryConsume(long now) {
+		while(true) {
+			long current = fullAt.get();
+			long next = Math.max(current, now) + refillNanos;
+			long overflow = next - now - burstNanos;
+			if(overflow > 0) {
+				return overflow;
+			}
+			if(fullAt.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+}
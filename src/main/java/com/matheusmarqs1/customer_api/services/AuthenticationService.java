@@ -7,7 +7,10 @@ import org.springframework.stereotype.Service;
 
 import com.matheusmarqs1.customer_api.dtos.login.LoginRequest;
 import com.matheusmarqs1.customer_api.dtos.login.LoginResponse;
+import com.matheusmarqs1.customer_api.dtos.login.RefreshTokenRequest;
+import com.matheusmarqs1.customer_api.security.CustomerAuthenticated;
 import com.matheusmarqs1.customer_api.security.JwtService;
+import com.matheusmarqs1.customer_api.security.LoginRateLimiter;
 
 @Service
 public class AuthenticationService {
@@ -16,15 +19,33 @@ public class AuthenticationService {
 	
 	private final JwtService jwtService;
 	
-	public AuthenticationService(JwtService jwtService, AuthenticationManager authenticationManager) {
+	private final LoginRateLimiter loginRateLimiter;
+	
+	private final RefreshTokenService refreshTokenService;
+	
+	public AuthenticationService(JwtService jwtService, AuthenticationManager authenticationManager, LoginRateLimiter loginRateLimiter,
+			RefreshTokenService refreshTokenService) {
 		this.jwtService = jwtService;
 		this.authenticationManager = authenticationManager;
+		this.loginRateLimiter = loginRateLimiter;
+		this.refreshTokenService = refreshTokenService;
 	}
 	
-	public LoginResponse authenticate(LoginRequest request) {
+	public LoginResponse authenticate(LoginRequest request, String clientIp) {
+		loginRateLimiter.acquire(request.email(), clientIp);
 		Authentication authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.email(), request.password()));
 		
-		return jwtService.generateTokenAndResponse(authentication);
+		CustomerAuthenticated customer = (CustomerAuthenticated) authentication.getPrincipal();
+		return jwtService.generateTokenAndResponse(customer, refreshTokenService.issue(customer.getId()));
+	}
+	
+	public LoginResponse refresh(RefreshTokenRequest request) {
+		RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.refreshToken());
+		return jwtService.generateTokenAndResponse(new CustomerAuthenticated(rotation.customer()), rotation.refreshToken());
+	}
+	
+	public void logout(RefreshTokenRequest request) {
+		refreshTokenService.revoke(request.refreshToken());
 	}
 
 }
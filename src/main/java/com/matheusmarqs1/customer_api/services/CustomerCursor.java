@@ -0,0 +1,84 @@
+package com.matheusmarqs1.customer_api.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.services.exceptions.BusinessException;
+
+/**
+ * Opaque keyset position for scrolling through customers.
+ * It carries the sort property and direction used to produce it, plus the sort key
+ * and id of the last customer returned, so the next window can seek straight to it
+ * instead of skipping rows with an offset.
+ */
+public record CustomerCursor(String property, Sort.Direction direction, Object value, Long id) {
+
+	public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name", "email", "birthDate");
+
+	private static final String SEPARATOR = "|";
+
+	public static CustomerCursor of(Customer customer, Sort.Order order) {
+		Object value = switch (order.getProperty()) {
+			case "name" -> customer.getName();
+			case "email" -> customer.getEmail();
+			case "birthDate" -> customer.getBirthDate();
+			default -> null;
+		};
+		return new CustomerCursor(order.getProperty(), order.getDirection(), value, customer.getId());
+	}
+
+	public static CustomerCursor decode(String token) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = decoded.split("\\" + SEPARATOR, 4);
+			if (parts.length < 3 || !SORTABLE_PROPERTIES.contains(parts[0])) {
+				throw new BusinessException("Invalid cursor");
+			}
+			String property = parts[0];
+			Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+			Long id = Long.valueOf(parts[2]);
+			Object value = null;
+			if (!property.equals("id")) {
+				if (parts.length < 4) {
+					throw new BusinessException("Invalid cursor");
+				}
+				value = property.equals("birthDate") ? LocalDate.parse(parts[3]) : parts[3];
+			}
+			return new CustomerCursor(property, direction, value, id);
+		}
+		catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new BusinessException("Invalid cursor");
+		}
+	}
+
+	public String encode() {
+		String raw = property + SEPARATOR + direction.name() + SEPARATOR + id;
+		if (value != null) {
+			raw += SEPARATOR + value;
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public boolean matches(Sort.Order order) {
+		return property.equals(order.getProperty()) && direction == order.getDirection();
+	}
+
+	public KeysetScrollPosition toScrollPosition() {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		if (value != null) {
+			keys.put(property, value);
+		}
+		keys.put("id", id);
+		return ScrollPosition.forward(keys);
+	}
+}
@@ -0,0 +1,107 @@
+package com.matheusmarqs1.customer_api.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerResponse;
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+
+/**
+ * Writes every customer matching the search filters to an output stream as NDJSON or CSV, with the same
+ * fields as {@link CustomerResponse}.
+ * <p>
+ * Customers are read from a single database cursor in id order ({@code customer.export.fetch-size} rows per
+ * round trip) inside a read-only transaction and written as they arrive, so an export costs one query whatever
+ * its size and memory stays flat, instead of a count and an offset scan per page.
+ */
+@Service
+public class CustomerExportService {
+
+	private static final String CSV_HEADER = "id,name,email,birthDate,phone,age";
+
+	private final CustomerRepository customerRepository;
+	private final CustomerService customerService;
+	private final ObjectWriter jsonWriter;
+	private final int fetchSize;
+
+	public CustomerExportService(CustomerRepository customerRepository, CustomerService customerService, ObjectMapper objectMapper,
+			@Value("${customer.export.fetch-size:1000}") int fetchSize) {
+		this.customerRepository = customerRepository;
+		this.customerService = customerService;
+		this.jsonWriter = objectMapper.writerFor(CustomerResponse.class)
+				.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		this.fetchSize = Math.max(1, fetchSize);
+	}
+
+	/**
+	 * Returns the number of customers written. The output is flushed but not closed.
+	 */
+	@Transactional(readOnly = true)
+	public long exportCustomers(String name, String cpf, String email, LocalDate birthDate, String phone,
+			CustomerFileFormat format, OutputStream output) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+		if(format == CustomerFileFormat.CSV) {
+			writer.write(CSV_HEADER);
+			writer.write('\n');
+		}
+
+		long count = 0;
+		try (Stream<Customer> customers = customerRepository.streamAll(customerService.buildSpecification(name, cpf, email, birthDate, phone), fetchSize)) {
+			Iterator<Customer> iterator = customers.iterator();
+			while(iterator.hasNext()) {
+				CustomerResponse customer = CustomerResponse.fromEntity(iterator.next());
+				if(format == CustomerFileFormat.CSV) {
+					writeCsv(writer, customer);
+				}
+				else {
+					jsonWriter.writeValue(writer, customer);
+				}
+				writer.write('\n');
+				count++;
+			}
+		}
+		writer.flush();
+		return count;
+	}
+
+	private static void writeCsv(Writer writer, CustomerResponse customer) throws IOException {
+		writer.write(String.valueOf(customer.id()));
+		writer.write(',');
+		writer.write(csvValue(customer.name()));
+		writer.write(',');
+		writer.write(csvValue(customer.email()));
+		writer.write(',');
+		writer.write(String.valueOf(customer.birthDate()));
+		writer.write(',');
+		writer.write(csvValue(customer.phone()));
+		writer.write(',');
+		writer.write(String.valueOf(customer.age()));
+	}
+
+	static String csvValue(String value) {
+		if(value == null) {
+			return "";
+		}
+		if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
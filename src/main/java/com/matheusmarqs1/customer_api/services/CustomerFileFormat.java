@@ -0,0 +1,62 @@
+package com.matheusmarqs1.customer_api.services;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.InvalidMimeTypeException;
+
+import com.matheusmarqs1.customer_api.services.exceptions.BusinessException;
+
+/**
+ * File formats of the bulk customer import and export.
+ */
+public enum CustomerFileFormat {
+	
+	/** One JSON object per line. */
+	NDJSON("ndjson", MediaType.APPLICATION_NDJSON_VALUE),
+	/** A header line naming the columns followed by one customer per line. */
+	CSV("csv", CustomerFileFormat.CSV_MEDIA_TYPE);
+	
+	public static final String CSV_MEDIA_TYPE = "text/csv";
+	
+	private final String parameter;
+	private final MediaType mediaType;
+	
+	private CustomerFileFormat(String parameter, String mediaType) {
+		this.parameter = parameter;
+		this.mediaType = MediaType.parseMediaType(mediaType);
+	}
+	
+	public String getParameter() {
+		return parameter;
+	}
+	
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+	
+	public static CustomerFileFormat fromContentType(String contentType) {
+		try {
+			MediaType mediaType = MediaType.parseMediaType(contentType);
+			for(CustomerFileFormat format : CustomerFileFormat.values()) {
+				if(format.getMediaType().isCompatibleWith(mediaType)) {
+					return format;
+				}
+			}
+		}
+		catch (InvalidMimeTypeException e) {
+			// reported below like any other unsupported content type
+		}
+		throw new BusinessException("Unsupported import format. Expected one of: " + MediaType.APPLICATION_NDJSON_VALUE + ", " + CSV_MEDIA_TYPE);
+	}
+	
+	public static CustomerFileFormat fromParameter(String parameter) {
+		if(parameter == null || parameter.isBlank()) {
+			return NDJSON;
+		}
+		for(CustomerFileFormat format : CustomerFileFormat.values()) {
+			if(format.getParameter().equalsIgnoreCase(parameter.trim())) {
+				return format;
+			}
+		}
+		throw new BusinessException("Invalid format value. Expected one of: ndjson, csv");
+	}
+}
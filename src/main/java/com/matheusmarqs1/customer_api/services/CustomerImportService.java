@@ -0,0 +1,426 @@
+package com.matheusmarqs1.customer_api.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerCreateRequest;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerImportError;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerImportResponse;
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
+import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+import com.matheusmarqs1.customer_api.search.CustomerNameIndex;
+import com.matheusmarqs1.customer_api.security.BoundedPasswordEncoder;
+import com.matheusmarqs1.customer_api.security.CustomerPrincipalCache;
+import com.matheusmarqs1.customer_api.services.exceptions.BusinessException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Loads customers in bulk from an NDJSON or CSV upload.
+ * <p>
+ * The body is read line by line and handled in chunks of {@code customer.import.chunk-size} rows, so memory
+ * stays bounded by the chunk whatever the size of the file. For each chunk, rows are validated with the same
+ * rules as {@code POST /customers}, CPF and email uniqueness is checked with one {@code IN} query per column
+ * (plus duplicates inside the chunk), passwords are hashed and the surviving rows are inserted in JDBC batches
+ * in a transaction of their own. Invalid rows are reported and skipped instead of failing the whole import.
+ * <p>
+ * Passwords are hashed on a pool of {@code customer.import.hashing.threads} threads (half the cores by default)
+ * rather than on the {@link BoundedPasswordEncoder} pool, so a large import neither fills the queue logins and
+ * signups rely on nor gets rejected by it during a login burst.
+ * <p>
+ * A chunk that hits a unique constraint (a customer signed up concurrently with the same CPF or email) is checked
+ * again and retried once. A chunk that still fails is rolled back and its rows are reported as not imported, while
+ * the chunks before it stay committed and the import carries on with the next one.
+ */
+@Service
+public class CustomerImportService implements DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(CustomerImportService.class);
+	private static final List<String> CSV_COLUMNS = List.of("name", "cpf", "email", "birthDate", "phone", "password");
+
+	private final CustomerRepository customerRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final CustomerNameIndex customerNameIndex;
+	private final CustomerPrincipalCache customerPrincipalCache;
+	private final int chunkSize;
+	private final int maxReportedErrors;
+	private final ThreadPoolExecutor hashingExecutor;
+
+	public CustomerImportService(CustomerRepository customerRepository, PasswordEncoder passwordEncoder, Validator validator,
+			ObjectMapper objectMapper, TransactionTemplate transactionTemplate, CustomerNameIndex customerNameIndex,
+			CustomerPrincipalCache customerPrincipalCache, MeterRegistry meterRegistry,
+			@Value("${customer.import.chunk-size:1000}") int chunkSize,
+			@Value("${customer.import.max-reported-errors:100}") int maxReportedErrors,
+			@Value("${customer.import.hashing.threads:0}") int hashingThreads) {
+		this.customerRepository = customerRepository;
+		this.passwordEncoder = passwordEncoder instanceof BoundedPasswordEncoder bounded ? bounded.getDelegate() : passwordEncoder;
+		this.validator = validator;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = transactionTemplate;
+		this.customerNameIndex = customerNameIndex;
+		this.customerPrincipalCache = customerPrincipalCache;
+		this.chunkSize = Math.max(1, chunkSize);
+		this.maxReportedErrors = maxReportedErrors;
+
+		int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		this.hashingExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(this.chunkSize), new ImportHashingThreadFactory(), CustomerImportService::runOnCaller);
+		ExecutorServiceMetrics.monitor(meterRegistry, hashingExecutor, "customer.import.hashing");
+	}
+
+	@Override
+	public void destroy() {
+		hashingExecutor.shutdownNow();
+	}
+
+	public CustomerImportResponse importCustomers(InputStream input, CustomerFileFormat format) throws IOException {
+		ImportReport report = new ImportReport(maxReportedErrors);
+		List<Row> chunk = new ArrayList<>(chunkSize);
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+			long lineNumber = 0;
+			Map<String, Integer> csvColumns = null;
+			if(format == CustomerFileFormat.CSV) {
+				csvColumns = csvColumns(reader.readLine());
+				lineNumber++;
+			}
+
+			String line;
+			while((line = reader.readLine()) != null) {
+				lineNumber++;
+				if(line.isBlank()) {
+					continue;
+				}
+				try {
+					CustomerCreateRequest request = csvColumns == null ? parseJson(line) : parseCsv(line, csvColumns);
+					chunk.add(new Row(lineNumber, request, null));
+				}
+				catch (IllegalArgumentException e) {
+					report.reject(lineNumber, e.getMessage());
+				}
+
+				if(chunk.size() == chunkSize) {
+					importChunk(chunk, report);
+					chunk.clear();
+				}
+			}
+		}
+
+		if(!chunk.isEmpty()) {
+			importChunk(chunk, report);
+		}
+		return report.toResponse();
+	}
+
+	private void importChunk(List<Row> rows, ImportReport report) {
+		List<Row> valid = new ArrayList<>(rows.size());
+		for(Row row : rows) {
+			Set<ConstraintViolation<CustomerCreateRequest>> violations = validator.validate(row.request());
+			if(violations.isEmpty()) {
+				valid.add(row);
+			}
+			else {
+				report.reject(row.line(), violations.stream()
+						.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+						.sorted()
+						.collect(Collectors.joining("; ")));
+			}
+		}
+
+		// Rows neither rejected nor inserted yet, reported as not imported if the chunk fails
+		List<Row> pending = valid;
+		try {
+			pending = withoutDuplicates(valid, report);
+			if(pending.isEmpty()) {
+				return;
+			}
+			pending = hash(pending);
+
+			int inserted;
+			try {
+				inserted = insert(pending);
+			}
+			catch (DataIntegrityViolationException e) {
+				pending = withoutDuplicates(pending, report);
+				inserted = insert(pending);
+			}
+			report.imported(inserted);
+		}
+		catch (RuntimeException e) {
+			logger.warn("Customer import chunk of {} rows failed, continuing with the next chunk", pending.size(), e);
+			for(Row row : pending) {
+				report.reject(row.line(), "Not imported: the rows around this line could not be saved, please retry it");
+			}
+		}
+	}
+
+	private static void runOnCaller(Runnable task, ThreadPoolExecutor executor) {
+		if(executor.isShutdown()) {
+			throw new RejectedExecutionException("Customer import is shutting down");
+		}
+		task.run();
+	}
+
+	/**
+	 * BCrypt dominates the cost of a row, so the chunk is hashed in parallel on the import pool. The queue holds
+	 * a whole chunk; rows of concurrent imports that do not fit are hashed on the request thread.
+	 */
+	private List<Row> hash(List<Row> rows) {
+		List<Future<String>> hashes = new ArrayList<>(rows.size());
+		try {
+			for(Row row : rows) {
+				hashes.add(hashingExecutor.submit(() -> passwordEncoder.encode(row.request().password())));
+			}
+			List<Row> hashed = new ArrayList<>(rows.size());
+			for(int i = 0; i < rows.size(); i++) {
+				Row row = rows.get(i);
+				hashed.add(new Row(row.line(), row.request(), hashes.get(i).get()));
+			}
+			return hashed;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Password hashing was interrupted", e);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException("Password hashing failed", e.getCause());
+		}
+		finally {
+			hashes.forEach(hash -> hash.cancel(true));
+		}
+	}
+
+	private int insert(List<Row> rows) {
+		if(rows.isEmpty()) {
+			return 0;
+		}
+		transactionTemplate.executeWithoutResult(status -> {
+			List<Customer> customers = rows.stream().map(CustomerImportService::toCustomer).toList();
+			customerRepository.insertAll(customers);
+			for(Customer customer : customers) {
+				customerNameIndex.add(customer.getId(), customer.getName());
+				customerPrincipalCache.evict(customer.getEmail());
+			}
+		});
+		return rows.size();
+	}
+
+	/**
+	 * Drops the rows whose CPF or email is already taken, either by an existing customer (found with one query
+	 * per column for the whole chunk) or by an earlier row of the same chunk.
+	 */
+	private List<Row> withoutDuplicates(List<Row> rows, ImportReport report) {
+		if(rows.isEmpty()) {
+			return rows;
+		}
+		Set<String> cpfs = new HashSet<>(customerRepository.findExistingCpfs(rows.stream().map(row -> row.request().cpf()).toList()));
+		Set<String> emails = new HashSet<>(customerRepository.findExistingEmails(rows.stream().map(row -> row.request().email()).toList()));
+
+		List<Row> unique = new ArrayList<>(rows.size());
+		for(Row row : rows) {
+			if(cpfs.contains(row.request().cpf())) {
+				report.reject(row.line(), "CPF already exists");
+			}
+			else if(emails.contains(row.request().email())) {
+				report.reject(row.line(), "Email already exists");
+			}
+			else {
+				cpfs.add(row.request().cpf());
+				emails.add(row.request().email());
+				unique.add(row);
+			}
+		}
+		return unique;
+	}
+
+	private CustomerCreateRequest parseJson(String line) {
+		try {
+			CustomerCreateRequest request = objectMapper.readValue(line, CustomerCreateRequest.class);
+			if(request == null) {
+				throw new IllegalArgumentException("Malformed JSON: expected an object");
+			}
+			return request;
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+		}
+	}
+
+	private static Map<String, Integer> csvColumns(String header) {
+		if(header == null) {
+			throw new BusinessException("CSV header is missing");
+		}
+		List<String> names = splitCsvLine(header.replace("\uFEFF", ""));
+		Map<String, Integer> columns = new HashMap<>();
+		for(int i = 0; i < names.size(); i++) {
+			String name = names.get(i).strip();
+			for(String column : CSV_COLUMNS) {
+				if(column.equalsIgnoreCase(name)) {
+					columns.putIfAbsent(column, i);
+				}
+			}
+		}
+		if(!columns.keySet().containsAll(CSV_COLUMNS)) {
+			throw new BusinessException("CSV header must contain the columns: " + String.join(", ", CSV_COLUMNS));
+		}
+		return columns;
+	}
+
+	private static CustomerCreateRequest parseCsv(String line, Map<String, Integer> columns) {
+		List<String> values = splitCsvLine(line);
+		String birthDate = value(values, columns, "birthDate");
+		try {
+			return new CustomerCreateRequest(
+					value(values, columns, "name"),
+					value(values, columns, "cpf"),
+					value(values, columns, "email"),
+					birthDate == null ? null : LocalDate.parse(birthDate),
+					value(values, columns, "phone"),
+					value(values, columns, "password"));
+		}
+		catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("birthDate: Invalid date format. Expected format: yyyy-MM-dd");
+		}
+	}
+
+	private static String value(List<String> values, Map<String, Integer> columns, String column) {
+		int index = columns.get(column);
+		if(index >= values.size() || values.get(index).isEmpty()) {
+			return null;
+		}
+		return values.get(index);
+	}
+
+	/**
+	 * Splits one CSV record on commas, honouring double-quoted fields ({@code "Silva, Ana"}) and doubled quotes
+	 * inside them. Records spanning several lines are not supported.
+	 */
+	static List<String> splitCsvLine(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		boolean quoted = false;
+
+		for(int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if(quoted) {
+				if(c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					current.append('"');
+					i++;
+				}
+				else if(c == '"') {
+					quoted = false;
+				}
+				else {
+					current.append(c);
+				}
+			}
+			else if(c == '"') {
+				quoted = true;
+			}
+			else if(c == ',') {
+				values.add(current.toString());
+				current.setLength(0);
+			}
+			else {
+				current.append(c);
+			}
+		}
+		values.add(current.toString());
+		return values;
+	}
+
+	private static Customer toCustomer(Row row) {
+		CustomerCreateRequest request = row.request();
+		return new Customer(null,
+				request.name(),
+				request.cpf(),
+				request.email(),
+				request.birthDate(),
+				request.phone(),
+				row.encodedPassword(),
+				Role.ROLE_CUSTOMER);
+	}
+
+	private static final class ImportHashingThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "customer-import-hashing-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+	private record Row(long line, CustomerCreateRequest request, String encodedPassword) {
+	}
+
+	private static final class ImportReport {
+
+		private final int maxReportedErrors;
+		private final List<CustomerImportError> errors = new ArrayList<>();
+		private long imported;
+		private long rejected;
+
+		ImportReport(int maxReportedErrors) {
+			this.maxReportedErrors = maxReportedErrors;
+		}
+
+		void imported(long count) {
+			imported += count;
+		}
+
+		void reject(long line, String message) {
+			rejected++;
+			if(errors.size() < maxReportedErrors) {
+				errors.add(new CustomerImportError(line, message));
+			}
+		}
+
+		CustomerImportResponse toResponse() {
+			errors.sort(Comparator.comparingLong(CustomerImportError::line));
+			return new CustomerImportResponse(imported, rejected, List.copyOf(errors));
+		}
+	}
+}
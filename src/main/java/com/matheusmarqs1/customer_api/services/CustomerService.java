@@ -1,19 +1,43 @@
 package com.matheusmarqs1.customer_api.services;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.hibernate.JDBCException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.matheusmarqs1.customer_api.config.CacheConfig;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerCreateRequest;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerPatchRequest;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerResponse;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerScrollResponse;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerUpdateRequest;
 import com.matheusmarqs1.customer_api.entities.Customer;
 import com.matheusmarqs1.customer_api.entities.enums.Role;
+import com.matheusmarqs1.customer_api.repositories.CustomerCountEstimator;
 import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+import com.matheusmarqs1.customer_api.search.CustomerNameIndex;
+import com.matheusmarqs1.customer_api.search.CustomerQueryStatistics;
+import com.matheusmarqs1.customer_api.search.CustomerSearchFilters;
+import com.matheusmarqs1.customer_api.security.CustomerPrincipalCache;
 import com.matheusmarqs1.customer_api.services.exceptions.BusinessException;
 import com.matheusmarqs1.customer_api.services.exceptions.ResourceNotFoundException;
 import com.matheusmarqs1.customer_api.specifications.CustomerSpecs;
@@ -23,25 +47,105 @@ import jakarta.transaction.Transactional;
 @Service
 public class CustomerService {
 
+	private static final int MAX_SCROLL_SIZE = 1000;
+	private static final String UNIQUE_VIOLATION = "23505";
+	private static final Pattern UNIQUE_COLUMN = Pattern.compile("\\(\\s*\"?(cpf|email)\\b", Pattern.CASE_INSENSITIVE);
+
     private final PasswordEncoder passwordEncoder;
 	private final CustomerRepository customerRepository;
+	private final CustomerCountEstimator customerCountEstimator;
+	private final CustomerNameIndex customerNameIndex;
+	private final CustomerPrincipalCache customerPrincipalCache;
+	private final CustomerQueryStatistics customerQueryStatistics;
+	private final RefreshTokenService refreshTokenService;
 	
-	public CustomerService(CustomerRepository customerRepository, PasswordEncoder passwordEncoder) {
+	public CustomerService(CustomerRepository customerRepository, PasswordEncoder passwordEncoder, 
+			CustomerCountEstimator customerCountEstimator, CustomerNameIndex customerNameIndex,
+			CustomerPrincipalCache customerPrincipalCache, CustomerQueryStatistics customerQueryStatistics,
+			RefreshTokenService refreshTokenService) {
 		this.customerRepository = customerRepository;
 		this.passwordEncoder = passwordEncoder;
+		this.customerCountEstimator = customerCountEstimator;
+		this.customerNameIndex = customerNameIndex;
+		this.customerPrincipalCache = customerPrincipalCache;
+		this.customerQueryStatistics = customerQueryStatistics;
+		this.refreshTokenService = refreshTokenService;
 	}
 
 	public Page<CustomerResponse> findCustomers(String name, String cpf, String email, LocalDate birthDate, String phone,  Pageable pageable){
-		Specification<Customer> spec = CustomerSpecs.byName(name)
-				.and(CustomerSpecs.byCpf(cpf))
-				.and(CustomerSpecs.byEmail(email))
-				.and(CustomerSpecs.byBirthDate(birthDate))
-				.and(CustomerSpecs.byPhone(phone));
+		Specification<Customer> spec = buildSpecification(name, cpf, email, birthDate, phone);
 		
-		Page<Customer> customersPage =  customerRepository.findAll(spec,pageable);
-		return customersPage.map(CustomerResponse::fromEntity);
+		return customerQueryStatistics.record("page", new CustomerSearchFilters(name, cpf, email, birthDate, phone),
+				() -> customerRepository.findSummaries(spec, pageable), Slice::getNumberOfElements)
+				.map(CustomerResponse::fromSummary);
 	}
 	
+	/**
+	 * Same search as {@link #findCustomers(String, String, String, LocalDate, String, Pageable)}, but lets the caller
+	 * skip the count query ({@link TotalMode#NONE}) or replace it with a planner estimate ({@link TotalMode#ESTIMATE}).
+	 */
+	public Slice<CustomerResponse> findCustomers(String name, String cpf, String email, LocalDate birthDate, String phone, Pageable pageable, TotalMode totalMode){
+		if(totalMode == TotalMode.EXACT || pageable.isUnpaged()) {
+			return findCustomers(name, cpf, email, birthDate, phone, pageable);
+		}
+		
+		OptionalLong estimate = OptionalLong.empty();
+		if(totalMode == TotalMode.ESTIMATE) {
+			estimate = customerCountEstimator.estimate(name, cpf, email, birthDate, phone);
+			if(estimate.isEmpty()) {
+				return findCustomers(name, cpf, email, birthDate, phone, pageable);
+			}
+		}
+		
+		Specification<Customer> spec = buildSpecification(name, cpf, email, birthDate, phone);
+		Slice<CustomerResponse> slice = customerQueryStatistics.record("slice", new CustomerSearchFilters(name, cpf, email, birthDate, phone),
+				() -> customerRepository.findSummarySlice(spec, pageable), Slice::getNumberOfElements)
+				.map(CustomerResponse::fromSummary);
+		
+		if(estimate.isEmpty()) {
+			return slice;
+		}
+		
+		long seen = pageable.getOffset() + slice.getNumberOfElements();
+		long total = slice.hasNext() ? Math.max(estimate.getAsLong(), seen + 1) : seen;
+		return new PageImpl<>(slice.getContent(), pageable, total);
+	}
+	
+	/**
+	 * Keyset (seek) alternative to {@link #findCustomers}: instead of an offset and a count query,
+	 * each window starts right after the sort key and id carried by the {@code after} cursor,
+	 * so the cost per window does not grow with how deep the client has scrolled.
+	 */
+	public CustomerScrollResponse scrollCustomers(String name, String cpf, String email, LocalDate birthDate, String phone,
+			String after, int size, Sort sort) {
+		Sort.Order order = resolveScrollOrder(sort);
+		ScrollPosition position = ScrollPosition.keyset();
+		
+		if(after != null && !after.isBlank()) {
+			CustomerCursor cursor = CustomerCursor.decode(after);
+			if(!cursor.matches(order)) {
+				throw new BusinessException("Cursor does not match the requested sort");
+			}
+			position = cursor.toScrollPosition();
+		}
+		
+		Sort keysetSort = order.getProperty().equals("id") ? Sort.by(order) : Sort.by(order, new Sort.Order(order.getDirection(), "id"));
+		int limit = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+		ScrollPosition scrollPosition = position;
+		
+		Specification<Customer> spec = buildSpecification(name, cpf, email, birthDate, phone);
+		Window<Customer> window = customerQueryStatistics.record("scroll", new CustomerSearchFilters(name, cpf, email, birthDate, phone),
+				() -> customerRepository.findBy(spec, query -> query.sortBy(keysetSort).limit(limit).scroll(scrollPosition)), Window::size);
+		
+		List<CustomerResponse> content = window.getContent().stream().map(CustomerResponse::fromEntity).toList();
+		String nextCursor = window.hasNext() && !window.isEmpty()
+				? CustomerCursor.of(window.getContent().get(window.size() - 1), order).encode()
+				: null;
+		
+		return new CustomerScrollResponse(content, content.size(), window.hasNext(), nextCursor);
+	}
+	
+	@Cacheable(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
 	public CustomerResponse findCustomerById(Long id) {
 		Customer customer = customerRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
@@ -49,15 +153,20 @@ public class CustomerService {
 		return CustomerResponse.fromEntity(customer);
 	}
 	
+	/**
+	 * Rejects a known CPF or email with one query before paying for the password hash. Two concurrent signups
+	 * can still both pass that check, so the unique constraints on cpf and email remain the final guard.
+	 */
 	@Transactional
 	public CustomerResponse createCustomer(CustomerCreateRequest createRequest) {
-		if(customerRepository.findByCpf(createRequest.cpf()).isPresent()) {
+		List<String> conflicts = customerRepository.findCpfsByCpfOrEmail(createRequest.cpf(), createRequest.email());
+		if(conflicts.contains(createRequest.cpf())) {
 			throw new BusinessException("CPF already exists");
 		}
-		
-		if(customerRepository.findByEmail(createRequest.email()).isPresent()) {
+		if(!conflicts.isEmpty()) {
 			throw new BusinessException("Email already exists");
 		}
+		
 		String encryptedPassword = passwordEncoder.encode(createRequest.password());
 		Customer customer = new Customer(null, 
 				createRequest.name(),
@@ -68,23 +177,25 @@ public class CustomerService {
 				encryptedPassword,
 				Role.ROLE_CUSTOMER);
 		
-		Customer savedCustomer = customerRepository.save(customer);
+		Customer savedCustomer = saveAndFlush(customer);
+		customerNameIndex.add(savedCustomer.getId(), savedCustomer.getName());
+		customerPrincipalCache.evict(savedCustomer.getEmail());
 		return CustomerResponse.fromEntity(savedCustomer);
 		
 	}
 	
 	@Transactional
+	@CachePut(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
 	public CustomerResponse updateCustomer(Long id, CustomerUpdateRequest updateRequest) {
 		Customer customer = customerRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
 		
-		customerRepository.findByEmail(updateRequest.email()).ifPresent(existingCustomer -> {
-			if(!existingCustomer.getId().equals(id)) {
-				throw new BusinessException("Email already exists");
-			}
-		});
-		
+		checkEmailAvailable(customer, updateRequest.email());
 		String encryptedPassword = passwordEncoder.encode(updateRequest.password());
+		String previousName = customer.getName();
+		String previousEmail = customer.getEmail();
+		String previousPassword = customer.getPassword();
+		Role previousRole = customer.getRole();
 		
 		customer.setName(updateRequest.name());
 		customer.setEmail(updateRequest.email());
@@ -92,17 +203,128 @@ public class CustomerService {
 		customer.setPhone(updateRequest.phone());
 		customer.setPassword(encryptedPassword);
 		
-		Customer savedCustomer = customerRepository.save(customer);
+		Customer savedCustomer = saveAndFlush(customer);
+		refreshTokenService.revokeIfCredentialsChanged(savedCustomer, previousPassword, previousRole);
+		customerNameIndex.update(savedCustomer.getId(), previousName, savedCustomer.getName());
+		customerPrincipalCache.evict(previousEmail);
+		customerPrincipalCache.evict(savedCustomer.getEmail());
 		return CustomerResponse.fromEntity(savedCustomer);
 		
 	}
 	
+	/**
+	 * Applies only the fields present in the request. The password is hashed only when a new one is sent,
+	 * and the entity uses dynamic updates, so a phone change writes just the phone column.
+	 */
+	@Transactional
+	@CachePut(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
+	public CustomerResponse patchCustomer(Long id, CustomerPatchRequest patchRequest) {
+		Customer customer = customerRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
+		
+		String previousName = customer.getName();
+		String previousEmail = customer.getEmail();
+		String previousPassword = customer.getPassword();
+		Role previousRole = customer.getRole();
+		
+		if(patchRequest.name() != null) {
+			customer.setName(patchRequest.name());
+		}
+		if(patchRequest.email() != null) {
+			checkEmailAvailable(customer, patchRequest.email());
+			customer.setEmail(patchRequest.email());
+		}
+		if(patchRequest.birthDate() != null) {
+			customer.setBirthDate(patchRequest.birthDate());
+		}
+		if(patchRequest.phone() != null) {
+			customer.setPhone(patchRequest.phone());
+		}
+		if(patchRequest.password() != null) {
+			customer.setPassword(passwordEncoder.encode(patchRequest.password()));
+		}
+		
+		Customer savedCustomer = saveAndFlush(customer);
+		refreshTokenService.revokeIfCredentialsChanged(savedCustomer, previousPassword, previousRole);
+		customerNameIndex.update(savedCustomer.getId(), previousName, savedCustomer.getName());
+		customerPrincipalCache.evict(previousEmail);
+		customerPrincipalCache.evict(savedCustomer.getEmail());
+		return CustomerResponse.fromEntity(savedCustomer);
+	}
+	
 	@Transactional
+	@CacheEvict(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
 	public void deleteCustomer(Long id) {
-		if(!customerRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Customer not found with ID: " + id);
+		Customer customer = customerRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + id));
+		
+		customerRepository.delete(customer);
+		customerNameIndex.remove(id, customer.getName());
+		customerPrincipalCache.evict(customer.getEmail());
+	}
+	
+	private void checkEmailAvailable(Customer customer, String email) {
+		if(!email.equals(customer.getEmail()) && customerRepository.existsByEmail(email)) {
+			throw new BusinessException("Email already exists");
 		}
+	}
+	
+	/**
+	 * Flushes the write immediately so a unique violation from a concurrent write surfaces here, where it can be
+	 * reported with the same messages as the checks above, instead of at commit time.
+	 */
+	private Customer saveAndFlush(Customer customer) {
+		try {
+			return customerRepository.saveAndFlush(customer);
+		}
+		catch (DataIntegrityViolationException e) {
+			throw duplicateCustomer(e);
+		}
+	}
+	
+	/**
+	 * Recognizes a unique violation by its SQLState and the violated column named in the driver message
+	 * (PostgreSQL: {@code Key (cpf)=...}, H2: {@code TB_CUSTOMER(CPF ...)}). Constraint names are not relied on,
+	 * since databases created by Hibernate before the migrations carry generated {@code UK...} names.
+	 */
+	private RuntimeException duplicateCustomer(DataIntegrityViolationException e) {
+		if(!(e.getCause() instanceof JDBCException jdbcException) || !UNIQUE_VIOLATION.equals(jdbcException.getSQLState())) {
+			return e;
+		}
+		Matcher column = UNIQUE_COLUMN.matcher(Objects.requireNonNullElse(jdbcException.getSQLException().getMessage(), ""));
+		String violated = column.find() ? column.group(1).toLowerCase(Locale.ROOT) : "";
+		
+		return switch (violated) {
+			case "cpf" -> new BusinessException("CPF already exists");
+			case "email" -> new BusinessException("Email already exists");
+			default -> new BusinessException("CPF or email already exists");
+		};
+	}
+	
+	/**
+	 * Filters shared by every customer search and the export, narrowing name searches through the
+	 * in-memory name index when it is available.
+	 */
+	public Specification<Customer> buildSpecification(String name, String cpf, String email, LocalDate birthDate, String phone) {
+		Specification<Customer> byName = customerNameIndex.findCandidates(name)
+				.map(candidates -> CustomerSpecs.byIds(candidates).and(CustomerSpecs.byName(name)))
+				.orElseGet(() -> CustomerSpecs.byName(name));
 		
-		customerRepository.deleteById(id);
+		return byName
+				.and(CustomerSpecs.byCpf(cpf))
+				.and(CustomerSpecs.byEmail(email))
+				.and(CustomerSpecs.byBirthDate(birthDate))
+				.and(CustomerSpecs.byPhone(phone));
+	}
+	
+	private Sort.Order resolveScrollOrder(Sort sort) {
+		List<Sort.Order> orders = sort.stream().toList();
+		if(orders.isEmpty()) {
+			return Sort.Order.asc("id");
+		}
+		if(orders.size() > 1 || !CustomerCursor.SORTABLE_PROPERTIES.contains(orders.get(0).getProperty())) {
+			throw new BusinessException("Scrolling supports a single sort property among: " + String.join(", ", CustomerCursor.SORTABLE_PROPERTIES.stream().sorted().toList()));
+		}
+		return orders.get(0);
 	}
 }
@@ -0,0 +1,150 @@
+package com.matheusmarqs1.customer_api.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.entities.RefreshToken;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
+import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+import com.matheusmarqs1.customer_api.repositories.RefreshTokenRepository;
+import com.matheusmarqs1.customer_api.services.exceptions.InvalidTokenException;
+
+/**
+ * Issues and rotates opaque refresh tokens, so clients can renew their access token without
+ * sending credentials (and paying a BCrypt verification) every time it expires.
+ * <p>
+ * Tokens are single use: a refresh revokes the presented token and returns a new one. Presenting a token
+ * that was already rotated means it was copied, so every refresh token of that customer is revoked. A password
+ * or role change revokes them all as well.
+ */
+@Service
+public class RefreshTokenService {
+
+	private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+	private static final int TOKEN_BYTES = 32;
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final CustomerRepository customerRepository;
+	private final Duration timeToLive;
+	private final Clock clock;
+	private final SecureRandom random = new SecureRandom();
+
+	@Autowired
+	public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, CustomerRepository customerRepository,
+			@Value("${jwt.refresh-token.time-to-live:P30D}") Duration timeToLive) {
+		this(refreshTokenRepository, customerRepository, timeToLive, Clock.systemUTC());
+	}
+
+	RefreshTokenService(RefreshTokenRepository refreshTokenRepository, CustomerRepository customerRepository,
+			Duration timeToLive, Clock clock) {
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.customerRepository = customerRepository;
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+	}
+
+	@Transactional
+	public String issue(Long customerId) {
+		return issue(customerRepository.getReferenceById(customerId));
+	}
+
+	/**
+	 * Revokes the presented token and returns the customer it belonged to with a replacement token.
+	 * <p>
+	 * The token is revoked with a conditional update rather than through the entity: when two refreshes present
+	 * the same token concurrently, both read it unrevoked but only one update can match, and the other is
+	 * handled as a reuse.
+	 */
+	@Transactional(noRollbackFor = InvalidTokenException.class)
+	public Rotation rotate(String token) {
+		Instant now = Instant.now(clock);
+		RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(token))
+				.orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+		if(refreshToken.isRevoked()) {
+			throw reused(refreshToken, now);
+		}
+		if(refreshToken.isExpired(now)) {
+			throw new InvalidTokenException("Refresh token expired");
+		}
+		if(refreshTokenRepository.revokeIfActive(refreshToken.getId(), now) != 1) {
+			throw reused(refreshToken, now);
+		}
+
+		Customer customer = refreshToken.getCustomer();
+		return new Rotation(customer, issue(customer));
+	}
+
+	@Transactional
+	public void revoke(String token) {
+		refreshTokenRepository.findByTokenHash(hash(token))
+				.ifPresent(refreshToken -> refreshToken.revoke(Instant.now(clock)));
+	}
+
+	/**
+	 * Revokes every refresh token of the customer when its password or role changed, so a token obtained
+	 * before a password reset or a role change cannot keep renewing access tokens.
+	 */
+	@Transactional
+	public void revokeIfCredentialsChanged(Customer customer, String previousPassword, Role previousRole) {
+		if(Objects.equals(previousPassword, customer.getPassword()) && previousRole == customer.getRole()) {
+			return;
+		}
+		int revoked = refreshTokenRepository.revokeAllByCustomerId(customer.getId(), Instant.now(clock));
+		if(revoked > 0) {
+			logger.info("Password or role of customer {} changed, revoked {} refresh tokens", customer.getId(), revoked);
+		}
+	}
+
+	@Scheduled(cron = "${jwt.refresh-token.cleanup-cron:0 0 3 * * *}")
+	@Transactional
+	public void deleteExpired() {
+		int deleted = refreshTokenRepository.deleteExpired(Instant.now(clock));
+		logger.info("Deleted {} expired refresh tokens", deleted);
+	}
+
+	private InvalidTokenException reused(RefreshToken refreshToken, Instant now) {
+		Long customerId = refreshToken.getCustomer().getId();
+		refreshTokenRepository.revokeAllByCustomerId(customerId, now);
+		logger.warn("Revoked refresh token reused, revoking all refresh tokens of customer {}", customerId);
+		return new InvalidTokenException("Invalid refresh token");
+	}
+
+	private String issue(Customer customer) {
+		byte[] bytes = new byte[TOKEN_BYTES];
+		random.nextBytes(bytes);
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+		refreshTokenRepository.save(new RefreshToken(null, hash(token), customer, Instant.now(clock).plus(timeToLive)));
+		return token;
+	}
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	public record Rotation(Customer customer, String refreshToken) {
+	}
+}
@@ -0,0 +1,38 @@
+package com.matheusmarqs1.customer_api.services;
+
+import com.matheusmarqs1.customer_api.services.exceptions.BusinessException;
+
+/**
+ * How the total number of matching customers is computed for a paginated search.
+ */
+public enum TotalMode {
+	
+	/** No count query: the result is a slice that only knows whether a next page exists. */
+	NONE("false"),
+	/** Exact total from a count query with the same filters. */
+	EXACT("exact"),
+	/** Total taken from the database planner statistics, falling back to an exact count when unavailable. */
+	ESTIMATE("estimate");
+	
+	private final String parameter;
+	
+	private TotalMode(String parameter) {
+		this.parameter = parameter;
+	}
+	
+	public String getParameter() {
+		return parameter;
+	}
+	
+	public static TotalMode fromParameter(String parameter) {
+		if(parameter == null || parameter.isBlank()) {
+			return EXACT;
+		}
+		for(TotalMode mode : TotalMode.values()) {
+			if(mode.getParameter().equalsIgnoreCase(parameter.trim())) {
+				return mode;
+			}
+		}
+		throw new BusinessException("Invalid withTotal value. Expected one of: false, exact, estimate");
+	}
+}
@@ -0,0 +1,10 @@
+package com.matheusmarqs1.customer_api.services.exceptions;
+
+public class InvalidTokenException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	
+	public InvalidTokenException(String message) {
+		super(message);
+	}
+
+}
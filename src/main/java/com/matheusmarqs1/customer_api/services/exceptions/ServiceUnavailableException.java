@@ -0,0 +1,10 @@
+package com.matheusmarqs1.customer_api.services.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	
+	public ServiceUnavailableException(String message) {
+		super(message);
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.matheusmarqs1.customer_api.services.exceptions;
+
+import java.time.Duration;
+
+public class TooManyRequestsException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	
+	private final Duration retryAfter;
+	
+	public TooManyRequestsException(String message, Duration retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+	
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+
+}
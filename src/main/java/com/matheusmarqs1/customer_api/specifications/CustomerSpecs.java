@@ -1,7 +1,9 @@
 package com.matheusmarqs1.customer_api.specifications;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.ObjectUtils;
 
@@ -9,12 +11,29 @@ import com.matheusmarqs1.customer_api.entities.Customer;
 
 public class CustomerSpecs {
 	
+	public static final char LIKE_ESCAPE = '\\';
+	
+	/**
+	 * Case-insensitive substring match rendered as {@code name ILIKE '%...%'}.
+	 * On PostgreSQL this predicate is served by the pg_trgm GIN index on {@code name}
+	 * (see the V2 migration), while H2 evaluates the same ILIKE natively in the test profile.
+	 */
 	public static Specification<Customer> byName(String name){
 		 return (root, query, builder) -> 
-			 (ObjectUtils.isEmpty(name)) ? builder.conjunction() : builder.like(builder.lower(root.get("name")), "%" + name.toLowerCase() + "%");
+			 (ObjectUtils.isEmpty(name)) ? builder.conjunction() : ((HibernateCriteriaBuilder) builder).ilike(root.get("name"), containsPattern(name), LIKE_ESCAPE);
 		 
 	}
 	
+	public static String containsPattern(String value) {
+		String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+		return "%" + escaped + "%";
+	}
+	
+	public static Specification<Customer> byIds(long[] ids){
+		return (root, query, builder) ->
+			(ids.length == 0) ? builder.disjunction() : root.get("id").in(Arrays.stream(ids).boxed().toList());
+	}
+	
 	public static Specification<Customer> byCpf(String cpf){
 		return (root, query, builder) ->
 			(ObjectUtils.isEmpty(cpf)) ? builder.conjunction() : builder.equal(root.get("cpf"), cpf);
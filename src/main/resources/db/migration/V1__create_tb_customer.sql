@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS tb_customer (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    cpf VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    birth_date DATE NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role INTEGER NOT NULL,
+    CONSTRAINT uk_customer_cpf UNIQUE (cpf),
+    CONSTRAINT uk_customer_email UNIQUE (email)
+);
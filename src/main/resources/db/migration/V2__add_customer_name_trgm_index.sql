@@ -0,0 +1,5 @@
+-- Substring searches on name (ILIKE '%...%') cannot use a B-tree index.
+-- A trigram GIN index lets PostgreSQL answer them without scanning tb_customer.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customer_name_trgm ON tb_customer USING gin (name gin_trgm_ops);
@@ -0,0 +1,5 @@
+-- Customer ids move from the identity column to a sequence that Hibernate reserves 50 values at a time,
+-- which lets inserts be sent in JDBC batches. The sequence starts past the ids already in use.
+CREATE SEQUENCE IF NOT EXISTS tb_customer_seq INCREMENT BY 50;
+
+SELECT setval('tb_customer_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tb_customer));
@@ -0,0 +1,84 @@
+package com.matheusmarqs1.customer_api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.matheusmarqs1.customer_api.config.CustomerDataGenerator.GeneratedCustomer;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerCreateRequest;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+@DisplayName("Unit tests for the synthetic customer generator")
+@Tag("Unit")
+public class CustomerDataGeneratorTest {
+
+	private final CustomerDataGenerator generator = new CustomerDataGenerator(null, null, null, 0, 42, 1000, "Customer@123",
+			"example.com", 1.0, "1982-01-01", 12, "1930-01-01", "2005-12-31");
+
+	@Test
+	@DisplayName("Should generate the same customers for the same seed")
+	void shouldBeDeterministicForTheSameSeed() {
+		Random first = new Random(7);
+		Random second = new Random(7);
+
+		for(long id = 1; id <= 100; id++) {
+			assertEquals(generator.generate(id, first), generator.generate(id, second));
+		}
+	}
+
+	@Test
+	@DisplayName("Should generate unique customers that pass the sign-up validation")
+	void shouldGenerateUniqueValidCustomers() {
+		Random random = new Random(42);
+		Set<String> cpfs = new HashSet<>();
+		Set<String> emails = new HashSet<>();
+
+		try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+			Validator validator = factory.getValidator();
+			for(long id = 1; id <= 2000; id++) {
+				GeneratedCustomer customer = generator.generate(id, random);
+				CustomerCreateRequest request = new CustomerCreateRequest(customer.name(), customer.cpf(), customer.email(),
+						customer.birthDate(), customer.phone(), "Customer@123");
+
+				assertTrue(validator.validate(request).isEmpty(), () -> "Invalid customer " + customer);
+				assertTrue(cpfs.add(customer.cpf()));
+				assertTrue(emails.add(customer.email()));
+				assertFalse(customer.birthDate().isBefore(LocalDate.of(1930, 1, 1)));
+				assertFalse(customer.birthDate().isAfter(LocalDate.of(2005, 12, 31)));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Should compute the CPF check digits")
+	void shouldComputeCpfCheckDigits() {
+		assertEquals("12345678909", CustomerDataGenerator.cpf(123456789));
+		assertEquals("00000000191", CustomerDataGenerator.cpf(1));
+	}
+
+	@Test
+	@DisplayName("Should make the first names of the list the most frequent")
+	void shouldSkewNamesTowardsTheMostCommon() {
+		Random random = new Random(42);
+		Map<String, Integer> firstNames = new HashMap<>();
+		for(long id = 1; id <= 10_000; id++) {
+			firstNames.merge(generator.generate(id, random).name().split(" ")[0], 1, Integer::sum);
+		}
+
+		assertTrue(firstNames.get("Maria") > 5 * firstNames.getOrDefault("Vitória", 0));
+	}
+}
@@ -0,0 +1,38 @@
+package com.matheusmarqs1.customer_api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit tests for the end of day cache expiry")
+@Tag("Unit")
+public class EndOfDayExpiryTest {
+	
+	private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+	
+	@Test
+	@DisplayName("Should expire after the time-to-live when midnight is further away")
+	void shouldExpireAfterTimeToLiveDuringTheDay() {
+		Clock noon = Clock.fixed(Instant.parse("2025-03-10T15:00:00Z"), ZONE);
+		EndOfDayExpiry<Long, String> expiry = new EndOfDayExpiry<>(Duration.ofMinutes(5), noon);
+		
+		assertEquals(Duration.ofMinutes(5).toNanos(), expiry.expireAfterCreate(1L, "value", 0L));
+	}
+	
+	@Test
+	@DisplayName("Should expire at midnight when it comes before the time-to-live")
+	void shouldExpireAtMidnightWhenItComesFirst() {
+		Clock beforeMidnight = Clock.fixed(Instant.parse("2025-03-11T02:58:00Z"), ZONE);
+		EndOfDayExpiry<Long, String> expiry = new EndOfDayExpiry<>(Duration.ofMinutes(5), beforeMidnight);
+		
+		assertEquals(Duration.ofMinutes(2).toNanos(), expiry.expireAfterCreate(1L, "value", 0L));
+		assertEquals(Duration.ofMinutes(2).toNanos(), expiry.expireAfterUpdate(1L, "value", 0L, 1L));
+	}
+}
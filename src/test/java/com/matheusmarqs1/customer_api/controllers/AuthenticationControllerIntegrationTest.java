@@ -0,0 +1,216 @@
+package com.matheusmarqs1.customer_api.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.jayway.jsonpath.JsonPath;
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+import com.matheusmarqs1.customer_api.security.CustomerPrincipalCache;
+
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Integration tests for Authentication API endpoints")
+@Tag("Integration")
+public class AuthenticationControllerIntegrationTest {
+	
+	@Autowired
+	MockMvc mockMvc;
+	
+	@Autowired
+	CustomerRepository customerRepository;
+	
+	@Autowired
+	CustomerPrincipalCache customerPrincipalCache;
+	
+	@Value("${customer.security.password.bcrypt-strength}")
+	int bcryptStrength;
+	
+	@Test
+	@Transactional
+	void testLoginReturnsTokenAndRefreshToken() throws Exception {
+		mockMvc.perform(post("/customers/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(login("ana@example.com", "1234")))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.token").isNotEmpty())
+		.andExpect(jsonPath("$.refreshToken").isNotEmpty())
+		.andExpect(jsonPath("$.roles[0]").value("ROLE_CUSTOMER"))
+		.andExpect(jsonPath("$.id").value(2));
+	}
+	
+	@Test
+	@Transactional
+	void testRefreshRotatesTheRefreshToken() throws Exception {
+		String refreshToken = loginAndGetRefreshToken("matheus@example.com");
+		
+		MvcResult result = mockMvc.perform(post("/customers/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh(refreshToken)))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.token").isNotEmpty())
+		.andExpect(jsonPath("$.id").value(1))
+		.andReturn();
+		
+		String rotatedToken = JsonPath.read(result.getResponse().getContentAsString(), "$.refreshToken");
+		
+		mockMvc.perform(post("/customers/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh(rotatedToken)))
+		.andExpect(status().isOk());
+	}
+	
+	@Test
+	@Transactional
+	void testReusingARotatedRefreshTokenRevokesTheWholeFamily() throws Exception {
+		String refreshToken = loginAndGetRefreshToken("joao@example.com");
+		
+		MvcResult result = mockMvc.perform(post("/customers/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh(refreshToken)))
+		.andExpect(status().isOk())
+		.andReturn();
+		String rotatedToken = JsonPath.read(result.getResponse().getContentAsString(), "$.refreshToken");
+		
+		mockMvc.perform(post("/customers/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh(refreshToken)))
+		.andExpect(status().isUnauthorized())
+		.andExpect(jsonPath("$.error").value("Invalid token"))
+		.andExpect(jsonPath("$.message").value("Invalid refresh token"));
+		
+		mockMvc.perform(post("/customers/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh(rotatedToken)))
+		.andExpect(status().isUnauthorized());
+	}
+	
+	@Test
+	@Transactional
+	void testLogoutRevokesTheRefreshToken() throws Exception {
+		String refreshToken = loginAndGetRefreshToken("ana@example.com");
+		
+		mockMvc.perform(post("/customers/logout")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh(refreshToken)))
+		.andExpect(status().isNoContent());
+		
+		mockMvc.perform(post("/customers/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh(refreshToken)))
+		.andExpect(status().isUnauthorized());
+	}
+	
+	@Test
+	@Transactional
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testChangingThePasswordRevokesRefreshTokens() throws Exception {
+		String refreshToken = loginAndGetRefreshToken("ana@example.com");
+		
+		mockMvc.perform(patch("/customers/2")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"password\":\"NewPass1@\"}"))
+		.andExpect(status().isOk());
+		
+		mockMvc.perform(post("/customers/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh(refreshToken)))
+		.andExpect(status().isUnauthorized());
+	}
+	
+	@Test
+	@Transactional
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testChangingOtherFieldsKeepsRefreshTokens() throws Exception {
+		String refreshToken = loginAndGetRefreshToken("ana@example.com");
+		
+		mockMvc.perform(patch("/customers/2")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"phone\":\"11912345678\"}"))
+		.andExpect(status().isOk());
+		
+		mockMvc.perform(post("/customers/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh(refreshToken)))
+		.andExpect(status().isOk());
+	}
+	
+	@Test
+	@Transactional
+	void testLoginRehashesAPasswordStoredWithAnotherCost() throws Exception {
+		storePassword("joao@example.com", "{bcrypt}" + new BCryptPasswordEncoder(bcryptStrength + 1).encode("1234"));
+		
+		loginAndGetRefreshToken("joao@example.com");
+		
+		assertRehashed("joao@example.com");
+	}
+	
+	@Test
+	@Transactional
+	void testLoginRehashesALegacyPasswordWithoutPrefix() throws Exception {
+		storePassword("joao@example.com", new BCryptPasswordEncoder(bcryptStrength).encode("1234"));
+		
+		loginAndGetRefreshToken("joao@example.com");
+		
+		assertRehashed("joao@example.com");
+	}
+	
+	@Test
+	void testRefreshWithUnknownToken() throws Exception {
+		mockMvc.perform(post("/customers/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(refresh("unknown")))
+		.andExpect(status().isUnauthorized())
+		.andExpect(jsonPath("$.message").value("Invalid refresh token"));
+	}
+	
+	private String loginAndGetRefreshToken(String email) throws Exception {
+		MvcResult result = mockMvc.perform(post("/customers/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(login(email, "1234")))
+		.andExpect(status().isOk())
+		.andReturn();
+		return JsonPath.read(result.getResponse().getContentAsString(), "$.refreshToken");
+	}
+	
+	private void storePassword(String email, String hash) {
+		Customer customer = customerRepository.findByEmail(email).orElseThrow();
+		customer.setPassword(hash);
+		customerRepository.saveAndFlush(customer);
+		customerPrincipalCache.evict(email);
+	}
+	
+	private void assertRehashed(String email) {
+		String hash = customerRepository.findByEmail(email).orElseThrow().getPassword();
+		String prefix = String.format("{bcrypt}$2a$%02d$", bcryptStrength);
+		
+		assertTrue(hash.startsWith(prefix), () -> "expected a hash starting with " + prefix + " but was " + hash);
+		assertTrue(new BCryptPasswordEncoder().matches("1234", hash.substring("{bcrypt}".length())));
+	}
+	
+	private static String login(String email, String password) {
+		return "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+	}
+	
+	private static String refresh(String refreshToken) {
+		return "{\"refreshToken\":\"" + refreshToken + "\"}";
+	}
+}
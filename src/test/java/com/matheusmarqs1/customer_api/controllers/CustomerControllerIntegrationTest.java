@@ -2,13 +2,22 @@ package com.matheusmarqs1.customer_api.controllers;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 
 import org.junit.jupiter.api.DisplayName;
@@ -17,12 +26,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.matheusmarqs1.customer_api.config.CacheConfig;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerCreateRequest;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerPatchRequest;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerUpdateRequest;
 
 import jakarta.transaction.Transactional;
@@ -39,6 +53,9 @@ public class CustomerControllerIntegrationTest {
 	@Autowired
 	ObjectMapper objectMapper;
 	
+	@Autowired
+	CacheManager cacheManager;
+	
 	
 	@Test
 	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
@@ -57,6 +74,23 @@ public class CustomerControllerIntegrationTest {
 		.andExpect(jsonPath("$.content.length()").value(2));
 	}
 	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testFindCustomersWhenNameFilterIsCaseInsensitive() throws Exception {
+		mockMvc.perform(get("/customers").param("name", "JOÃO"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.content.length()").value(1))
+		.andExpect(jsonPath("$.content[0].name").value("João Ferreira"));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testFindCustomersWhenNameFilterContainsWildcards() throws Exception {
+		mockMvc.perform(get("/customers").param("name", "%"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.content.length()").value(0));
+	}
+	
 	@Test
 	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
 	void testFindCustomersWhenMoreThanOneFilterAreApplied() throws Exception {
@@ -73,6 +107,79 @@ public class CustomerControllerIntegrationTest {
 		.andExpect(status().isOk()).andExpect(jsonPath("$.content.length()").value(2));
 	}
 	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testFindCustomersWithoutTotal() throws Exception {
+		mockMvc.perform(get("/customers").param("withTotal", "false").param("size", "2"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.content.length()").value(2))
+		.andExpect(jsonPath("$.last").value(false))
+		.andExpect(jsonPath("$.totalElements").doesNotExist());
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testFindCustomersWithEstimatedTotal() throws Exception {
+		mockMvc.perform(get("/customers").param("withTotal", "estimate").param("name", "teles"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.content.length()").value(2))
+		.andExpect(jsonPath("$.totalElements").value(2));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testFindCustomersWithInvalidTotalMode() throws Exception {
+		mockMvc.perform(get("/customers").param("withTotal", "sometimes"))
+		.andExpect(status().isBadRequest())
+		.andExpect(jsonPath("$.error").value("Business rule violation"));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testScrollCustomersFollowingCursor() throws Exception {
+		MvcResult firstWindow = mockMvc.perform(get("/customers/scroll").param("size", "2").param("sort", "name,asc"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.content.length()").value(2))
+		.andExpect(jsonPath("$.content[0].name").value("Ana Teles"))
+		.andExpect(jsonPath("$.content[1].name").value("João Ferreira"))
+		.andExpect(jsonPath("$.hasNext").value(true))
+		.andReturn();
+		
+		String nextCursor = JsonPath.read(firstWindow.getResponse().getContentAsString(), "$.nextCursor");
+		
+		mockMvc.perform(get("/customers/scroll").param("size", "2").param("sort", "name,asc").param("after", nextCursor))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.content.length()").value(1))
+		.andExpect(jsonPath("$.content[0].name").value("Matheus Teles"))
+		.andExpect(jsonPath("$.hasNext").value(false))
+		.andExpect(jsonPath("$.nextCursor").doesNotExist());
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testScrollCustomersWhenNameFilterIsApplied() throws Exception {
+		mockMvc.perform(get("/customers/scroll").param("name", "teles"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.content.length()").value(2))
+		.andExpect(jsonPath("$.hasNext").value(false));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testScrollCustomersWithInvalidCursor() throws Exception {
+		mockMvc.perform(get("/customers/scroll").param("after", "not-a-cursor"))
+		.andExpect(status().isBadRequest())
+		.andExpect(jsonPath("$.error").value("Business rule violation"))
+		.andExpect(jsonPath("$.message").value("Invalid cursor"));
+	}
+	
+	@Test
+	@WithMockUser(username = "customer@example.com", authorities = {"SCOPE_ROLE_CUSTOMER"})
+	void testScrollCustomersForbiddenAccess() throws Exception {
+		mockMvc.perform(get("/customers/scroll"))
+		.andExpect(status().isForbidden());
+	}
+	
 	@Test
 	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
 	void testFindCustomerByIdSuccess() throws Exception {
@@ -82,6 +189,22 @@ public class CustomerControllerIntegrationTest {
 		.andExpect(jsonPath("$.name").value("Ana Teles"));
 	}
 	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testFindCustomerByIdIsServedFromCache() throws Exception {
+		mockMvc.perform(get("/customers/{id}", 3))
+		.andExpect(status().isOk());
+		
+		assertNotNull(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).get(3L));
+		double hits = customersCacheHits();
+		
+		mockMvc.perform(get("/customers/{id}", 3))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.name").value("João Ferreira"));
+		
+		assertEquals(hits + 1, customersCacheHits());
+	}
+	
 	@Test
 	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
 	void testFindCustomerByIdNotFound() throws Exception {
@@ -335,6 +458,168 @@ public class CustomerControllerIntegrationTest {
 		
 	}
 	
+	@Test
+	@Transactional
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testPatchCustomerUpdatesOnlyProvidedFields() throws Exception {
+		CustomerPatchRequest patchRequest = new CustomerPatchRequest(null, null, null, "11912345678", null);
+		
+		String json = objectMapper.writeValueAsString(patchRequest);
+		
+		mockMvc.perform(patch("/customers/{id}", 2L)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.id").value(2L))
+		.andExpect(jsonPath("$.name").value("Ana Teles"))
+		.andExpect(jsonPath("$.email").value("ana@example.com"))
+		.andExpect(jsonPath("$.birthDate").value("1995-03-15"))
+		.andExpect(jsonPath("$.phone").value("11912345678"));
+	}
+	
+	@Test
+	@Transactional
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testPatchCustomerWhenEmailIsAlreadyInUseBySomeoneElse() throws Exception {
+		CustomerPatchRequest patchRequest = new CustomerPatchRequest(null, "matheus@example.com", null, null, null);
+		
+		String json = objectMapper.writeValueAsString(patchRequest);
+		
+		mockMvc.perform(patch("/customers/{id}", 2L)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json))
+		.andExpect(status().isBadRequest())
+		.andExpect(jsonPath("$.error").value("Business rule violation"))
+		.andExpect(jsonPath("$.message").value("Email already exists"));
+	}
+	
+	@Test
+	@Transactional
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testPatchCustomerWithInvalidPhone() throws Exception {
+		CustomerPatchRequest patchRequest = new CustomerPatchRequest(null, null, null, "12ab", null);
+		
+		String json = objectMapper.writeValueAsString(patchRequest);
+		
+		mockMvc.perform(patch("/customers/{id}", 2L)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json))
+		.andExpect(status().isBadRequest())
+		.andExpect(jsonPath("$.error").value("Validation failed"));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testExportCustomersAsNdjson() throws Exception {
+		MvcResult result = mockMvc.perform(get("/customers/export"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		
+		String body = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+				.andExpect(header().string("Content-Disposition", containsString("customers.ndjson")))
+				.andReturn().getResponse().getContentAsString();
+		
+		String[] lines = body.split("\n");
+		assertEquals(3, lines.length);
+		assertEquals("Matheus Teles", JsonPath.read(lines[0], "$.name"));
+		assertEquals("joao@example.com", JsonPath.read(lines[2], "$.email"));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testExportCustomersAsCsvWithFilters() throws Exception {
+		MvcResult result = mockMvc.perform(get("/customers/export").param("format", "csv").param("name", "teles"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		
+		String body = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", containsString("text/csv")))
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+		
+		String[] lines = body.split("\n");
+		assertEquals(3, lines.length);
+		assertEquals("id,name,email,birthDate,phone,age", lines[0]);
+		assertTrue(lines[1].startsWith("1,Matheus Teles,matheus@example.com,2005-08-28,99999999999,"));
+		assertTrue(lines[2].startsWith("2,Ana Teles,"));
+	}
+	
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testExportCustomersWithInvalidFormat() throws Exception {
+		mockMvc.perform(get("/customers/export").param("format", "xml"))
+		.andExpect(status().isBadRequest())
+		.andExpect(jsonPath("$.message").value("Invalid format value. Expected one of: ndjson, csv"));
+	}
+	
+	@Test
+	@Transactional
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testImportCustomersFromNdjsonReportsRejectedRows() throws Exception {
+		String ndjson = """
+				{"name":"João Pedro","cpf":"00000000191","email":"joaopedro@example.com","birthDate":"2001-08-06","phone":"1199999999","password":"AlkPQ12@"}
+				{"name":"Ana Souza","cpf":"52998224725","email":"matheus@example.com","birthDate":"1990-01-01","phone":"1199999999","password":"AlkPQ12@"}
+				{"name":"Pedro Lima","cpf":"12345678900","email":"pedro@example.com","birthDate":"1990-01-01","phone":"1199999999","password":"AlkPQ12@"}
+				{"name":
+				""";
+		
+		mockMvc.perform(post("/customers/import")
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.content(ndjson))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.imported").value(1))
+		.andExpect(jsonPath("$.rejected").value(3))
+		.andExpect(jsonPath("$.errors[0].line").value(2))
+		.andExpect(jsonPath("$.errors[0].message").value("Email already exists"))
+		.andExpect(jsonPath("$.errors[1].line").value(3))
+		.andExpect(jsonPath("$.errors[1].message").value("cpf: Invalid CPF"))
+		.andExpect(jsonPath("$.errors[2].line").value(4))
+		.andExpect(jsonPath("$.errors[2].message", containsString("Malformed JSON")));
+		
+		mockMvc.perform(get("/customers").param("email", "joaopedro@example.com"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.content.length()").value(1))
+		.andExpect(jsonPath("$.content[0].name").value("João Pedro"));
+	}
+	
+	@Test
+	@Transactional
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testImportCustomersFromCsv() throws Exception {
+		String csv = """
+				name,cpf,email,birthDate,phone,password
+				"Silva, Ana",52998224725,ana.silva@example.com,1990-01-01,1199999999,AlkPQ12@
+				Carlos Lima,11144477735,carlos@example.com,1990-13-01,1199999999,AlkPQ12@
+				Bruno Costa,52998224725,bruno@example.com,1985-05-20,1199999999,AlkPQ12@
+				""";
+		
+		mockMvc.perform(post("/customers/import")
+				.contentType("text/csv")
+				.content(csv))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.imported").value(1))
+		.andExpect(jsonPath("$.rejected").value(2))
+		.andExpect(jsonPath("$.errors[0].line").value(3))
+		.andExpect(jsonPath("$.errors[0].message", containsString("birthDate")))
+		.andExpect(jsonPath("$.errors[1].line").value(4))
+		.andExpect(jsonPath("$.errors[1].message").value("CPF already exists"));
+		
+		mockMvc.perform(get("/customers").param("email", "ana.silva@example.com"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.content[0].name").value("Silva, Ana"));
+	}
+	
+	@Test
+	@WithMockUser(username = "matheus@example.com", authorities = {"SCOPE_ROLE_CUSTOMER"})
+	void testImportCustomersWhenUserIsNotAdmin() throws Exception {
+		mockMvc.perform(post("/customers/import")
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.content("{}"))
+		.andExpect(status().isForbidden());
+	}
+	
 	@Test
 	@Transactional
 	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
@@ -354,6 +639,13 @@ public class CustomerControllerIntegrationTest {
 	
 	}
 	
+	private double customersCacheHits() throws Exception {
+		String body = mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:customers").param("tag", "result:hit"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return JsonPath.<Number>read(body, "$.measurements[0].value").doubleValue();
+	}
+	
 
 	
 	
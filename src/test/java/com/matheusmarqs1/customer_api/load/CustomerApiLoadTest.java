@@ -0,0 +1,453 @@
+package com.matheusmarqs1.customer_api.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matheusmarqs1.customer_api.config.CustomerDataGenerator;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerCreateRequest;
+
+/**
+ * End-to-end load test: boots the application on the test profile behind a real HTTP port, seeds
+ * {@code load.customers} customers with {@link CustomerDataGenerator} and drives a weighted mix of logins, reads by id, filtered searches and
+ * sign-ups from {@code load.threads} concurrent clients. After a warm-up, latencies are recorded per operation
+ * for {@code load.duration}, logged as p50/p99/max and throughput, written to {@code load.report} as JSON and
+ * checked against the thresholds below, failing the build when one is exceeded.
+ * <p>
+ * Excluded from the default build; run it with {@code mvn -P load-test test}. Every setting is a system
+ * property, e.g. {@code -Dload.threads=32 -Dload.max-p99-ms=200 -Dload.max-p99-ms.search=400}.
+ * <ul>
+ * <li>{@code load.mix}: operation weights, default {@code login=5,get=60,search=25,create=10}</li>
+ * <li>{@code load.rate}: total requests per second, paced across clients; {@code 0} (default) lets every client
+ * send its next request as soon as the previous one returns. With a rate, latency is measured from the time the
+ * request was due, so a stalled server is not hidden by clients that stop sending</li>
+ * <li>{@code load.max-p50-ms}, {@code load.max-p99-ms} (optionally suffixed with {@code .login}, {@code .get},
+ * {@code .search} or {@code .create}), {@code load.min-throughput} in requests per second and
+ * {@code load.max-error-rate} as a fraction of requests. The defaults (250 ms, 1000 ms, 20 req/s and 1%) only
+ * catch gross regressions; pin them to a baseline run on the machine that runs the test</li>
+ * </ul>
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false",
+		"logging.level.root=WARN",
+		"logging.level.com.matheusmarqs1.customer_api.config=INFO",
+		"logging.level.com.matheusmarqs1.customer_api.load=INFO",
+		"logging.level.org.springframework.security=WARN",
+		"logging.level.org.springframework.web=WARN",
+		"customer.security.login-rate-limit.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("Load test for the customer API over HTTP")
+@Tag("Load")
+public class CustomerApiLoadTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(CustomerApiLoadTest.class);
+
+	private static final String PASSWORD = "Load@1234";
+	private static final String EMAIL_DOMAIN = "load.test";
+
+	@LocalServerPort
+	int port;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	private final Settings settings = Settings.fromSystemProperties();
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+	private final AtomicLong signUps = new AtomicLong();
+	private String adminToken;
+	private List<SeededCustomer> customers;
+
+	@DynamicPropertySource
+	static void jwtKeys(DynamicPropertyRegistry registry) throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		Base64.Encoder base64 = Base64.getEncoder();
+		registry.add("jwt.algorithm", () -> "RS256");
+		registry.add("jwt.public.key", () -> base64.encodeToString(keyPair.getPublic().getEncoded()));
+		registry.add("jwt.private.key", () -> base64.encodeToString(keyPair.getPrivate().getEncoded()));
+		registry.add("customer.data-generator.customers", () -> Integer.getInteger("load.customers", 50_000));
+		registry.add("customer.data-generator.password", () -> PASSWORD);
+		registry.add("customer.data-generator.email-domain", () -> EMAIL_DOMAIN);
+	}
+
+	@Test
+	void testMixedTrafficStaysWithinThresholds() throws Exception {
+		customers = jdbcTemplate.query("SELECT id, name, email, birth_date FROM tb_customer WHERE email LIKE ? ORDER BY id",
+				(rs, row) -> new SeededCustomer(rs.getLong("id"), rs.getString("name"), rs.getString("email"), rs.getObject("birth_date", LocalDate.class)),
+				"%@" + EMAIL_DOMAIN);
+		SeededCustomer admin = customers.get(0);
+		jdbcTemplate.update("UPDATE tb_customer SET role = 2 WHERE id = ?", admin.id());
+
+		HttpResponse<String> login = send(post("/customers/login", credentials(admin.email(), PASSWORD)));
+		assertEquals(200, login.statusCode(), "Admin login failed: " + login.body());
+		adminToken = objectMapper.readTree(login.body()).path("token").asText();
+		for(Operation operation : Operation.values()) {
+			HttpResponse<String> response = send(request(operation, new Random(settings.seed())));
+			assertEquals(operation.expectedStatus, response.statusCode(), () -> operation.key() + " failed before the load started: " + response.body());
+		}
+
+		Report report = run();
+		report.log();
+		Files.createDirectories(settings.report().toAbsolutePath().getParent());
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.report().toFile(), report.toJson());
+
+		List<String> violations = report.violations(settings);
+		assertTrue(violations.isEmpty(), () -> "Load test thresholds exceeded:\n" + String.join("\n", violations));
+	}
+
+	private Report run() throws Exception {
+		long start = System.nanoTime();
+		long measureFrom = start + settings.warmup().toNanos();
+		long end = measureFrom + settings.duration().toNanos();
+
+		ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+		try {
+			List<Future<Recorder>> workers = new ArrayList<>();
+			for(int i = 0; i < settings.threads(); i++) {
+				Random random = new Random(settings.seed() + i);
+				long offset = settings.rate() > 0 ? i * settings.intervalNanos() / settings.threads() : 0;
+				workers.add(executor.submit(() -> work(random, start + offset, measureFrom, end)));
+			}
+
+			Recorder total = new Recorder();
+			for(Future<Recorder> worker : workers) {
+				total.merge(worker.get());
+			}
+			return new Report(total, settings.duration());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Recorder work(Random random, long firstRequest, long measureFrom, long end) {
+		Recorder recorder = new Recorder();
+		long intended = firstRequest;
+
+		while(true) {
+			if(settings.rate() > 0) {
+				long wait = intended - System.nanoTime();
+				if(wait > 0) {
+					LockSupport.parkNanos(wait);
+				}
+			}
+			else {
+				intended = System.nanoTime();
+			}
+			if(intended >= end) {
+				return recorder;
+			}
+
+			Operation operation = settings.pick(random);
+			boolean ok;
+			try {
+				ok = send(request(operation, random)).statusCode() == operation.expectedStatus;
+			}
+			catch (IOException e) {
+				ok = false;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return recorder;
+			}
+			if(intended >= measureFrom) {
+				recorder.record(operation, System.nanoTime() - intended, ok);
+			}
+			intended += settings.intervalNanos();
+		}
+	}
+
+	private HttpRequest request(Operation operation, Random random) throws IOException {
+		SeededCustomer customer = customers.get(random.nextInt(customers.size()));
+		return switch (operation) {
+		case LOGIN -> post("/customers/login", credentials(customer.email(), PASSWORD));
+		case GET -> get("/customers/" + customer.id());
+		case SEARCH -> get("/customers?" + searchQuery(random, customer));
+		case CREATE -> post("/customers", objectMapper.writeValueAsString(signUp()));
+		};
+	}
+
+	/**
+	 * Rotates between a search on the start of a surname, the same search narrowed by birth date and an exact
+	 * email lookup, all taken from a seeded customer so their selectivity follows the generated distributions.
+	 */
+	private static String searchQuery(Random random, SeededCustomer customer) {
+		String surname = customer.name().substring(customer.name().lastIndexOf(' ') + 1);
+		String name = URLEncoder.encode(surname.substring(0, Math.min(4, surname.length())).toLowerCase(), StandardCharsets.UTF_8);
+		return switch (random.nextInt(3)) {
+		case 0 -> "name=" + name + "&page=0&size=20";
+		case 1 -> "name=" + name + "&birthDate=" + customer.birthDate() + "&page=0&size=20";
+		default -> "email=" + URLEncoder.encode(customer.email(), StandardCharsets.UTF_8);
+		};
+	}
+
+	private CustomerCreateRequest signUp() {
+		// CPFs the generator would give to ids far past the seeded ones, so sign-ups never collide with them
+		long n = signUps.incrementAndGet();
+		String cpf = CustomerDataGenerator.cpfOf(customers.get(customers.size() - 1).id() + 1_000_000L + n);
+		return new CustomerCreateRequest("Novo Cliente " + n, cpf, "signup" + n + "@example.com",
+				LocalDate.of(1990, 1, 1).plusDays(n % 10_000), String.format("21%09d", n), PASSWORD);
+	}
+
+	private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+		return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpRequest post(String path, String json) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.header("Authorization", "Bearer " + adminToken)
+				.GET()
+				.build();
+	}
+
+	private String credentials(String email, String password) throws IOException {
+		return objectMapper.writeValueAsString(Map.of("email", email, "password", password));
+	}
+
+	record SeededCustomer(long id, String name, String email, LocalDate birthDate) {
+	}
+
+	enum Operation {
+		LOGIN(200), GET(200), SEARCH(200), CREATE(201);
+
+		final int expectedStatus;
+
+		Operation(int expectedStatus) {
+			this.expectedStatus = expectedStatus;
+		}
+
+		String key() {
+			return name().toLowerCase();
+		}
+	}
+
+	record Settings(int threads, Duration warmup, Duration duration, double rate, long seed,
+			Map<Operation, Integer> mix, Path report) {
+
+		static Settings fromSystemProperties() {
+			Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+			for(String entry : System.getProperty("load.mix", "login=5,get=60,search=25,create=10").split(",")) {
+				String[] parts = entry.split("=");
+				mix.put(Operation.valueOf(parts[0].strip().toUpperCase()), Integer.parseInt(parts[1].strip()));
+			}
+			return new Settings(
+					Integer.getInteger("load.threads", 16),
+					Duration.parse(System.getProperty("load.warmup", "PT10S")),
+					Duration.parse(System.getProperty("load.duration", "PT30S")),
+					Double.parseDouble(System.getProperty("load.rate", "0")),
+					Long.getLong("load.seed", 42L),
+					mix,
+					Path.of(System.getProperty("load.report", "target/load-test-report.json")));
+		}
+
+		/** Time between two requests of the same client when the rate is paced. */
+		long intervalNanos() {
+			return rate > 0 ? (long) (threads * 1_000_000_000L / rate) : 0;
+		}
+
+		Operation pick(Random random) {
+			int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+			int ticket = random.nextInt(total);
+			for(Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+				ticket -= entry.getValue();
+				if(ticket < 0) {
+					return entry.getKey();
+				}
+			}
+			throw new IllegalStateException("Empty traffic mix");
+		}
+
+		double threshold(String name, Operation operation, double defaultValue) {
+			String value = System.getProperty(name + "." + operation.key(), System.getProperty(name));
+			return value == null ? defaultValue : Double.parseDouble(value);
+		}
+	}
+
+	/** Latencies and errors of one client, merged into the totals at the end of the run. */
+	static final class Recorder {
+
+		private final Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+		private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+		private final Map<Operation, Integer> errors = new EnumMap<>(Operation.class);
+
+		void record(Operation operation, long nanos, boolean ok) {
+			int count = counts.getOrDefault(operation, 0);
+			long[] values = latencies.computeIfAbsent(operation, key -> new long[1024]);
+			if(count == values.length) {
+				values = Arrays.copyOf(values, count * 2);
+				latencies.put(operation, values);
+			}
+			values[count] = nanos;
+			counts.put(operation, count + 1);
+			if(!ok) {
+				errors.merge(operation, 1, Integer::sum);
+			}
+		}
+
+		void merge(Recorder other) {
+			for(Operation operation : other.counts.keySet()) {
+				long[] values = other.latencies.get(operation);
+				for(int i = 0; i < other.counts.get(operation); i++) {
+					record(operation, values[i], true);
+				}
+				errors.merge(operation, other.errors.getOrDefault(operation, 0), Integer::sum);
+			}
+		}
+
+		long[] sorted(Operation operation) {
+			long[] values = Arrays.copyOf(latencies.getOrDefault(operation, new long[0]), counts.getOrDefault(operation, 0));
+			Arrays.sort(values);
+			return values;
+		}
+
+		int errors(Operation operation) {
+			return errors.getOrDefault(operation, 0);
+		}
+	}
+
+	record Stats(int requests, int errors, double throughput, double p50Millis, double p99Millis, double maxMillis) {
+
+		static Stats of(long[] sorted, int errors, Duration duration) {
+			return new Stats(sorted.length, errors, sorted.length / (duration.toNanos() / 1e9),
+					percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+		}
+
+		private static double percentile(long[] sorted, double percentile) {
+			if(sorted.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.max(0, index)] / 1e6;
+		}
+
+		double errorRate() {
+			return requests == 0 ? 0 : (double) errors / requests;
+		}
+	}
+
+	record Report(Map<Operation, Stats> operations, Stats overall) {
+
+		Report(Recorder recorder, Duration duration) {
+			this(byOperation(recorder, duration), overall(recorder, duration));
+		}
+
+		private static Map<Operation, Stats> byOperation(Recorder recorder, Duration duration) {
+			Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+			for(Operation operation : Operation.values()) {
+				stats.put(operation, Stats.of(recorder.sorted(operation), recorder.errors(operation), duration));
+			}
+			return stats;
+		}
+
+		private static Stats overall(Recorder recorder, Duration duration) {
+			long[] all = Arrays.stream(Operation.values()).map(recorder::sorted).flatMapToLong(Arrays::stream).sorted().toArray();
+			int errors = Arrays.stream(Operation.values()).mapToInt(recorder::errors).sum();
+			return Stats.of(all, errors, duration);
+		}
+
+		List<String> violations(Settings settings) {
+			List<String> violations = new ArrayList<>();
+			for(Map.Entry<Operation, Stats> entry : operations.entrySet()) {
+				Operation operation = entry.getKey();
+				Stats stats = entry.getValue();
+				if(stats.requests() == 0) {
+					continue;
+				}
+				double maxP50 = settings.threshold("load.max-p50-ms", operation, 250);
+				double maxP99 = settings.threshold("load.max-p99-ms", operation, 1000);
+				if(stats.p50Millis() > maxP50) {
+					violations.add(String.format("%s p50 %.1f ms > %.1f ms", operation.key(), stats.p50Millis(), maxP50));
+				}
+				if(stats.p99Millis() > maxP99) {
+					violations.add(String.format("%s p99 %.1f ms > %.1f ms", operation.key(), stats.p99Millis(), maxP99));
+				}
+			}
+			double minThroughput = Double.parseDouble(System.getProperty("load.min-throughput", "20"));
+			double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+			if(overall.throughput() < minThroughput) {
+				violations.add(String.format("throughput %.1f req/s < %.1f req/s", overall.throughput(), minThroughput));
+			}
+			if(overall.errorRate() > maxErrorRate) {
+				violations.add(String.format("error rate %.4f > %.4f", overall.errorRate(), maxErrorRate));
+			}
+			return violations;
+		}
+
+		void log() {
+			StringBuilder table = new StringBuilder(String.format("%n%-8s %10s %8s %10s %10s %10s %10s%n",
+					"", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+			operations.forEach((operation, stats) -> table.append(row(operation.key(), stats)));
+			table.append(row("total", overall));
+			logger.info("Load test results:{}", table);
+		}
+
+		private static String row(String name, Stats stats) {
+			return String.format("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f%n", name, stats.requests(), stats.errors(),
+					stats.throughput(), stats.p50Millis(), stats.p99Millis(), stats.maxMillis());
+		}
+
+		Map<String, Object> toJson() {
+			Map<String, Object> json = new LinkedHashMap<>();
+			operations.forEach((operation, stats) -> json.put(operation.key(), stats));
+			json.put("total", overall);
+			return json;
+		}
+	}
+}
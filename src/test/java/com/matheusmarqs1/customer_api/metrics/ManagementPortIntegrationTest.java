@@ -0,0 +1,62 @@
+package com.matheusmarqs1.customer_api.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability
+@DisplayName("Integration tests for the actuator on a separate management port")
+@Tag("Integration")
+public class ManagementPortIntegrationTest {
+
+	@LocalManagementPort
+	int managementPort;
+
+	@Autowired
+	TestRestTemplate restTemplate;
+
+	@Test
+	void testPrometheusIsScrapedWithoutToken() {
+		ResponseEntity<String> response = restTemplate.getForEntity(managementUrl("/actuator/prometheus"), String.class);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertTrue(response.getBody().contains("jvm_memory_used_bytes"));
+	}
+
+	@Test
+	void testHealthIsPublic() {
+		ResponseEntity<String> response = restTemplate.getForEntity(managementUrl("/actuator/health"), String.class);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+	}
+
+	@Test
+	void testOtherEndpointsStillRequireToken() {
+		ResponseEntity<String> response = restTemplate.getForEntity(managementUrl("/actuator/metrics"), String.class);
+
+		assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+	}
+
+	@Test
+	void testPrometheusIsNotServedOnServerPort() {
+		ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+	}
+
+	private String managementUrl(String path) {
+		return "http://localhost:" + managementPort + path;
+	}
+}
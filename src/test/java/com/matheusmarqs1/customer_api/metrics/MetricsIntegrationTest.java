@@ -0,0 +1,98 @@
+package com.matheusmarqs1.customer_api.metrics;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Integration tests for the service and repository metrics")
+@Tag("Integration")
+public class MetricsIntegrationTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testServiceCallsAreTimedByOutcome() throws Exception {
+		mockMvc.perform(get("/customers/1")).andExpect(status().isOk());
+		mockMvc.perform(get("/customers/999")).andExpect(status().isNotFound());
+		mockMvc.perform(get("/customers/scroll").param("sort", "phone,asc")).andExpect(status().isBadRequest());
+
+		assertTrue(serviceTimer("CustomerService", "findCustomerById", "ok").count() >= 1);
+		assertTrue(serviceTimer("CustomerService", "findCustomerById", "not-found").count() >= 1);
+		assertTrue(serviceTimer("CustomerService", "scrollCustomers", "business-error").count() >= 1);
+	}
+
+	@Test
+	void testTokenIssuanceIsTimed() throws Exception {
+		mockMvc.perform(post("/customers/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\": \"matheus@example.com\", \"password\": \"1234\"}"))
+		.andExpect(status().isOk());
+
+		assertTrue(serviceTimer("JwtService", "generateTokenAndResponse", "ok").count() >= 1);
+	}
+
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testRepositoryCallsAreTimedWithOutcome() throws Exception {
+		mockMvc.perform(get("/customers/998")).andExpect(status().isNotFound());
+
+		Timer timer = meterRegistry.find("spring.data.repository.invocations")
+				.tags("repository", "CustomerRepository", "method", "findById", Outcome.TAG, "ok")
+				.timer();
+		assertNotNull(timer);
+		assertTrue(timer.count() >= 1);
+	}
+
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testPrometheusEndpointExposesLatencyHistograms() throws Exception {
+		mockMvc.perform(get("/customers/997")).andExpect(status().isNotFound());
+
+		mockMvc.perform(get("/actuator/prometheus"))
+		.andExpect(status().isOk())
+		.andExpect(content().string(containsString("service_invocations_seconds_bucket{")))
+		.andExpect(content().string(containsString("outcome=\"not-found\"")))
+		.andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")));
+	}
+
+	@Test
+	@WithMockUser(username = "ana@example.com", authorities = {"SCOPE_ROLE_CUSTOMER"})
+	void testPrometheusEndpointRequiresAdmin() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+		.andExpect(status().isForbidden());
+	}
+
+	private Timer serviceTimer(String service, String method, String outcome) {
+		Timer timer = meterRegistry.find(ServiceMetricsAspect.METRIC_NAME)
+				.tags("service", service, "method", method, Outcome.TAG, outcome)
+				.timer();
+		assertNotNull(timer, () -> "No timer for " + method + " with outcome " + outcome);
+		return timer;
+	}
+}
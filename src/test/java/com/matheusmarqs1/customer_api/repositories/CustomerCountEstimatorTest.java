@@ -0,0 +1,105 @@
+package com.matheusmarqs1.customer_api.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.specifications.CustomerSpecs;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.transaction.Transactional;
+
+/**
+ * The estimate repeats the {@link CustomerSpecs} predicates as SQL, so this compares its WHERE clause with the one
+ * Hibernate renders for the specifications, captured from the {@code org.hibernate.SQL} log.
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("Integration tests for the count estimate predicates")
+@Tag("Integration")
+public class CustomerCountEstimatorTest {
+
+	private static final String NAME = "Teles";
+	private static final String CPF = "12345678909";
+	private static final String EMAIL = "matheus@example.com";
+	private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 5, 15);
+	private static final String PHONE = "11999999999";
+
+	@Autowired
+	CustomerRepository customerRepository;
+
+	private final Logger sqlLogger = (Logger) LoggerFactory.getLogger("org.hibernate.SQL");
+	private final ListAppender<ILoggingEvent> statements = new ListAppender<>();
+	private Level sqlLevel;
+
+	@BeforeEach
+	void setup() {
+		sqlLevel = sqlLogger.getLevel();
+		sqlLogger.setLevel(Level.DEBUG);
+		sqlLogger.addAppender(statements);
+		statements.start();
+	}
+
+	@AfterEach
+	void cleanup() {
+		sqlLogger.detachAppender(statements);
+		sqlLogger.setLevel(sqlLevel);
+	}
+
+	@Test
+	@DisplayName("Should estimate with the same predicate as each specification")
+	void shouldMatchEachSpecification() {
+		assertSameWhere(CustomerSpecs.byName(NAME), CustomerCountEstimator.where(NAME, null, null, null, null));
+		assertSameWhere(CustomerSpecs.byCpf(CPF), CustomerCountEstimator.where(null, CPF, null, null, null));
+		assertSameWhere(CustomerSpecs.byEmail(EMAIL), CustomerCountEstimator.where(null, null, EMAIL, null, null));
+		assertSameWhere(CustomerSpecs.byBirthDate(BIRTH_DATE), CustomerCountEstimator.where(null, null, null, BIRTH_DATE, null));
+		assertSameWhere(CustomerSpecs.byPhone(PHONE), CustomerCountEstimator.where(null, null, null, null, PHONE));
+	}
+
+	@Test
+	@DisplayName("Should estimate with the same predicates as all specifications combined")
+	void shouldMatchCombinedSpecifications() {
+		Specification<Customer> spec = CustomerSpecs.byName(NAME)
+				.and(CustomerSpecs.byCpf(CPF))
+				.and(CustomerSpecs.byEmail(EMAIL))
+				.and(CustomerSpecs.byBirthDate(BIRTH_DATE))
+				.and(CustomerSpecs.byPhone(PHONE));
+
+		assertSameWhere(spec, CustomerCountEstimator.where(NAME, CPF, EMAIL, BIRTH_DATE, PHONE));
+	}
+
+	@Test
+	@DisplayName("Should bind the same pattern as the name specification")
+	void shouldBindNamePattern() {
+		assertEquals(List.of(CustomerSpecs.containsPattern("50%_off")), CustomerCountEstimator.where("50%_off", null, null, null, null).args());
+	}
+
+	private void assertSameWhere(Specification<Customer> spec, CustomerCountEstimator.Where where) {
+		statements.list.clear();
+		customerRepository.findAll(spec);
+		String hibernateSql = statements.list.get(statements.list.size() - 1).getFormattedMessage();
+		String hibernateWhere = hibernateSql.split("\\swhere\\s", 2)[1];
+
+		assertEquals(normalize(hibernateWhere), normalize(where.sql()));
+	}
+
+	private static String normalize(String sql) {
+		return sql.toLowerCase(Locale.ROOT).replaceAll("\\bc1_0\\.", "").replaceAll("[\\s()]", "");
+	}
+}
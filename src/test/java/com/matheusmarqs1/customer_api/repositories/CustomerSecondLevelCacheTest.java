@@ -0,0 +1,116 @@
+package com.matheusmarqs1.customer_api.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs without a test transaction, so every repository call gets its own persistence context and repeated
+ * reads can only be served by the second-level and query caches enabled on the test profile.
+ */
+@SpringBootTest
+@DisplayName("Integration tests for the Customer second-level and query cache")
+@Tag("Integration")
+public class CustomerSecondLevelCacheTest {
+
+	private static final String EMAIL = "cache.test@example.com";
+
+	@Autowired
+	CustomerRepository customerRepository;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private Customer customer;
+
+	@BeforeEach
+	void setup() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		customer = customerRepository.save(new Customer(null, "Cache Test", "11144477735", EMAIL,
+				LocalDate.of(1990, 1, 1), "11999990000", "{noop}secret", Role.ROLE_CUSTOMER));
+		entityManagerFactory.getCache().evictAll();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void cleanup() {
+		customerRepository.findById(customer.getId()).ifPresent(customerRepository::delete);
+	}
+
+	@Test
+	@DisplayName("Should serve a repeated findById from the entity cache")
+	void shouldServeRepeatedFindByIdFromCache() {
+		customerRepository.findById(customer.getId()).orElseThrow();
+		customerRepository.findById(customer.getId()).orElseThrow();
+
+		EntityStatistics entityStatistics = customerStatistics();
+		assertEquals(1, entityStatistics.getCacheMissCount());
+		assertEquals(1, entityStatistics.getCacheHitCount());
+		assertEquals(1, statistics.getEntityLoadCount());
+	}
+
+	@Test
+	@DisplayName("Should serve a repeated findByEmail from the query cache")
+	void shouldServeRepeatedFindByEmailFromQueryCache() {
+		customerRepository.findByEmail(EMAIL).orElseThrow();
+		customerRepository.findByEmail(EMAIL).orElseThrow();
+
+		assertEquals(1, statistics.getQueryCacheMissCount());
+		assertEquals(1, statistics.getQueryCacheHitCount());
+		assertEquals(1, statistics.getQueryExecutionCount());
+	}
+
+	@Test
+	@DisplayName("Should not serve the cached entity or query results after an update")
+	void shouldInvalidateCacheOnUpdate() {
+		customerRepository.findByEmail(EMAIL).orElseThrow();
+		Customer cached = customerRepository.findById(customer.getId()).orElseThrow();
+
+		cached.setName("Cache Test Updated");
+		customerRepository.save(cached);
+		statistics.clear();
+
+		assertEquals("Cache Test Updated", customerRepository.findById(customer.getId()).orElseThrow().getName());
+		assertEquals("Cache Test Updated", customerRepository.findByEmail(EMAIL).orElseThrow().getName());
+		assertEquals(0, statistics.getQueryCacheHitCount());
+		assertEquals(1, statistics.getQueryExecutionCount());
+	}
+
+	@Test
+	@DisplayName("Should not serve the cached entity or query results after a delete")
+	void shouldInvalidateCacheOnDelete() {
+		customerRepository.findByEmail(EMAIL).orElseThrow();
+		customerRepository.findById(customer.getId()).orElseThrow();
+		assertEquals(1, customerStatistics().getCachePutCount());
+
+		customerRepository.deleteById(customer.getId());
+		statistics.clear();
+
+		assertTrue(customerRepository.findById(customer.getId()).isEmpty());
+		assertTrue(customerRepository.findByEmail(EMAIL).isEmpty());
+		assertEquals(0, customerStatistics().getCacheHitCount());
+		assertEquals(0, statistics.getQueryCacheHitCount());
+	}
+
+	private EntityStatistics customerStatistics() {
+		return statistics.getEntityStatistics(Customer.class.getName());
+	}
+}
@@ -0,0 +1,86 @@
+package com.matheusmarqs1.customer_api.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+import com.matheusmarqs1.customer_api.repositories.projections.CustomerNameProjection;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for the in-memory customer name index")
+@Tag("Unit")
+public class CustomerNameIndexTest {
+	
+	@Mock
+	private CustomerRepository customerRepository;
+	
+	private CustomerNameIndex customerNameIndex;
+	
+	@BeforeEach
+	void setup() {
+		customerNameIndex = new CustomerNameIndex(customerRepository, true, 100);
+		
+		when(customerRepository.streamAllNames()).thenReturn(Stream.of(
+				new CustomerNameProjection(1L, "Matheus Teles"),
+				new CustomerNameProjection(2L, "Ana Teles"),
+				new CustomerNameProjection(3L, "João Ferreira")));
+		
+		customerNameIndex.rebuild();
+	}
+	
+	@Test
+	@DisplayName("Should resolve a substring to the ids of the customers containing it")
+	void shouldResolveSubstringToCandidateIds() {
+		assertArrayEquals(new long[] {1L, 2L}, customerNameIndex.findCandidates("TELES").orElseThrow());
+		assertArrayEquals(new long[] {3L}, customerNameIndex.findCandidates("joão").orElseThrow());
+	}
+	
+	@Test
+	@DisplayName("Should resolve to no candidates when a trigram is unknown")
+	void shouldResolveToNoCandidatesWhenTrigramIsUnknown() {
+		assertArrayEquals(new long[0], customerNameIndex.findCandidates("silva").orElseThrow());
+	}
+	
+	@Test
+	@DisplayName("Should not narrow the search for queries shorter than a trigram")
+	void shouldNotNarrowSearchForShortQueries() {
+		assertTrue(customerNameIndex.findCandidates("an").isEmpty());
+	}
+	
+	@Test
+	@DisplayName("Should reflect created, renamed and deleted customers")
+	void shouldReflectIncrementalChanges() {
+		customerNameIndex.add(4L, "Carlos Teles");
+		assertArrayEquals(new long[] {1L, 2L, 4L}, customerNameIndex.findCandidates("teles").orElseThrow());
+		
+		customerNameIndex.update(2L, "Ana Teles", "Ana Souza");
+		assertArrayEquals(new long[] {1L, 4L}, customerNameIndex.findCandidates("teles").orElseThrow());
+		assertArrayEquals(new long[] {2L}, customerNameIndex.findCandidates("souza").orElseThrow());
+		
+		customerNameIndex.remove(1L, "Matheus Teles");
+		assertArrayEquals(new long[] {4L}, customerNameIndex.findCandidates("teles").orElseThrow());
+		assertArrayEquals(new long[0], customerNameIndex.findCandidates("matheus").orElseThrow());
+	}
+	
+	@Test
+	@DisplayName("Should not answer when disabled")
+	void shouldNotAnswerWhenDisabled() {
+		CustomerNameIndex disabled = new CustomerNameIndex(customerRepository, false, 100);
+		disabled.rebuild();
+		
+		assertFalse(disabled.isReady());
+		assertTrue(disabled.findCandidates("teles").isEmpty());
+	}
+}
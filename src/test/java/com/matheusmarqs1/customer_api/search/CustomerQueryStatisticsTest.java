@@ -0,0 +1,104 @@
+package com.matheusmarqs1.customer_api.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.matheusmarqs1.customer_api.search.CustomerQueryStatistics.SearchStats;
+import com.matheusmarqs1.customer_api.search.CustomerQueryStatistics.SlowSearch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Unit tests for the customer search statistics")
+@Tag("Unit")
+public class CustomerQueryStatisticsTest {
+	
+	private MeterRegistry meterRegistry;
+	
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+	
+	@Test
+	@DisplayName("Should name the filter combination in a fixed order")
+	void shouldNameFilterCombination() {
+		assertEquals("none", new CustomerSearchFilters(null, "", null, null, null).combination());
+		assertEquals("name+email+birthDate", new CustomerSearchFilters("Ana", null, "ana@example.com", LocalDate.of(1990, 1, 1), null).combination());
+	}
+	
+	@Test
+	@DisplayName("Should mask name, birth date, CPF, email and phone")
+	void shouldMaskPersonalData() {
+		Map<String, String> masked = new CustomerSearchFilters(" Ana  Teles ", "12345678909", "ana.teles@example.com",
+				LocalDate.of(1990, 1, 1), "11987654321").masked();
+		
+		assertEquals("A** T****", masked.get("name"));
+		assertEquals("123******09", masked.get("cpf"));
+		assertEquals("a********@example.com", masked.get("email"));
+		assertEquals("1990-**-**", masked.get("birthDate"));
+		assertEquals("11*******21", masked.get("phone"));
+		assertEquals("***", CustomerSearchFilters.mask("123", 3, 2));
+	}
+	
+	@Test
+	@DisplayName("Should aggregate searches per kind and filter combination and publish them as metrics")
+	void shouldAggregateSearchesPerCombination() {
+		CustomerQueryStatistics statistics = new CustomerQueryStatistics(meterRegistry, Duration.ofHours(1), 1.0, 10);
+		CustomerSearchFilters byName = new CustomerSearchFilters("Ana", null, null, null, null);
+		
+		statistics.record("page", byName, () -> List.of(1, 2, 3), List::size);
+		statistics.record("page", byName, () -> List.of(1), List::size);
+		statistics.record("slice", new CustomerSearchFilters(null, null, null, null, null), List::of, List::size);
+		
+		SearchStats stats = statistics.searches().stream()
+				.filter(search -> search.kind().equals("page") && search.filters().equals("name"))
+				.findFirst().orElseThrow();
+		assertEquals(2, stats.count());
+		assertEquals(2.0, stats.meanRows());
+		assertEquals(0, stats.slowCount());
+		assertEquals(2, statistics.searches().size());
+		assertTrue(statistics.slowSearches().isEmpty());
+		
+		Timer timer = meterRegistry.find(CustomerQueryStatistics.METRIC_NAME).tags("kind", "page", "filters", "name").timer();
+		assertNotNull(timer);
+		assertEquals(2, timer.count());
+	}
+	
+	@Test
+	@DisplayName("Should keep the latest slow searches with masked parameters and the SQL they ran")
+	void shouldKeepLatestSlowSearches() {
+		CustomerQueryStatistics statistics = new CustomerQueryStatistics(meterRegistry, Duration.ZERO, 1.0, 2);
+		
+		for(int i = 0; i < 3; i++) {
+			String email = "user" + i + "@example.com";
+			statistics.record("scroll", new CustomerSearchFilters(null, null, email, null, null), () -> {
+				statistics.inspect("select c1_0.id from tb_customer c1_0 where c1_0.email=?");
+				return List.of();
+			}, List::size);
+		}
+		statistics.inspect("select 1");
+		
+		List<SlowSearch> slowSearches = statistics.slowSearches();
+		assertEquals(2, slowSearches.size());
+		assertEquals("u****@example.com", slowSearches.get(0).parameters().get("email"));
+		assertEquals(List.of("select c1_0.id from tb_customer c1_0 where c1_0.email=?"), slowSearches.get(0).sql());
+		assertEquals(3, statistics.searches().get(0).slowCount());
+		
+		statistics.reset();
+		assertTrue(statistics.searches().isEmpty());
+		assertTrue(statistics.slowSearches().isEmpty());
+	}
+}
@@ -0,0 +1,63 @@
+package com.matheusmarqs1.customer_api.search;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "customer.query-stats.slow-threshold=0s")
+@AutoConfigureMockMvc
+@DisplayName("Integration tests for the query statistics endpoint")
+@Tag("Integration")
+public class QueryStatsEndpointIntegrationTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	CustomerQueryStatistics customerQueryStatistics;
+
+	@BeforeEach
+	void setup() {
+		customerQueryStatistics.reset();
+	}
+
+	@Test
+	@WithMockUser(username = "admin@example.com", authorities = {"SCOPE_ROLE_ADMIN"})
+	void testSearchesAreReportedPerFilterCombination() throws Exception {
+		mockMvc.perform(get("/customers").param("email", "matheus@example.com")).andExpect(status().isOk());
+		mockMvc.perform(get("/customers/scroll").param("name", "teles")).andExpect(status().isOk());
+
+		mockMvc.perform(get("/actuator/querystats"))
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.searches[*].filters", hasItem("email")))
+		.andExpect(jsonPath("$.searches[*].kind", hasItem("scroll")))
+		.andExpect(jsonPath("$.slowSearches[?(@.filters == 'email')].parameters.email", hasItem("m******@example.com")))
+		.andExpect(jsonPath("$.slowSearches[?(@.filters == 'name')].parameters.name", hasItem("t****")))
+		.andExpect(jsonPath("$.slowSearches[?(@.filters == 'email')].sql[0]", hasItem(startsWith("select"))))
+		.andExpect(jsonPath("$.hibernate.enabled").value(true));
+
+		mockMvc.perform(delete("/actuator/querystats")).andExpect(status().isNoContent());
+		mockMvc.perform(get("/actuator/querystats"))
+		.andExpect(jsonPath("$.searches").isEmpty());
+	}
+
+	@Test
+	@WithMockUser(username = "ana@example.com", authorities = {"SCOPE_ROLE_CUSTOMER"})
+	void testQueryStatsRequiresAdmin() throws Exception {
+		mockMvc.perform(get("/actuator/querystats"))
+		.andExpect(status().isForbidden());
+	}
+}
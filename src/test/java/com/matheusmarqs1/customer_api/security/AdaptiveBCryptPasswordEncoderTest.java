@@ -0,0 +1,39 @@
+package com.matheusmarqs1.customer_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@DisplayName("Unit tests for the adaptive BCrypt password encoder")
+@Tag("Unit")
+public class AdaptiveBCryptPasswordEncoderTest {
+	
+	private final AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+	
+	@Test
+	@DisplayName("Should not ask for a re-hash when the stored cost matches the configured one")
+	void shouldNotUpgradeWhenCostMatches() {
+		String hash = encoder.encode("AlkPQ12@");
+		
+		assertFalse(encoder.upgradeEncoding(hash));
+		assertTrue(encoder.matches("AlkPQ12@", hash));
+	}
+	
+	@Test
+	@DisplayName("Should ask for a re-hash when the stored cost is lower or higher than the configured one")
+	void shouldUpgradeWhenCostDiffers() {
+		assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("AlkPQ12@")));
+		assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("AlkPQ12@")));
+	}
+	
+	@Test
+	@DisplayName("Should not ask for a re-hash when the value is not a BCrypt hash")
+	void shouldNotUpgradeUnknownEncodings() {
+		assertFalse(encoder.upgradeEncoding(null));
+		assertFalse(encoder.upgradeEncoding("plain"));
+	}
+}
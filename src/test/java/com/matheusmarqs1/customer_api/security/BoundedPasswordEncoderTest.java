@@ -0,0 +1,102 @@
+package com.matheusmarqs1.customer_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.matheusmarqs1.customer_api.services.exceptions.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Unit tests for the bounded password encoder")
+@Tag("Unit")
+public class BoundedPasswordEncoderTest {
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private BoundedPasswordEncoder encoder;
+	
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		if(encoder != null) {
+			encoder.destroy();
+		}
+	}
+	
+	@Test
+	@DisplayName("Should delegate hashing and matching and record their latency")
+	void shouldDelegateAndRecordLatency() {
+		encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(false), 1, 1, Duration.ofSeconds(5), meterRegistry);
+		
+		assertEquals("hashed:secret", encoder.encode("secret"));
+		assertTrue(encoder.matches("secret", "hashed:secret"));
+		assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "encode").timer().count());
+		assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+	}
+	
+	@Test
+	@DisplayName("Should reject with ServiceUnavailableException when the pool and queue are full")
+	void shouldRejectWhenPoolAndQueueAreFull() throws Exception {
+		encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(true), 1, 1, Duration.ofSeconds(5), meterRegistry);
+		
+		CompletableFuture.runAsync(() -> encoder.encode("running"));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture.runAsync(() -> encoder.encode("queued"));
+		while(meterRegistry.get("executor.queued").gauge().value() < 1) {
+			Thread.onSpinWait();
+		}
+		
+		assertThrows(ServiceUnavailableException.class, () -> encoder.encode("rejected"));
+		assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+	}
+	
+	@Test
+	@DisplayName("Should give up with ServiceUnavailableException when waiting longer than the timeout")
+	void shouldTimeOutWhenHashingTakesTooLong() {
+		encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(true), 1, 1, Duration.ofMillis(50), meterRegistry);
+		
+		assertThrows(ServiceUnavailableException.class, () -> encoder.encode("slow"));
+		assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+	}
+	
+	private class BlockingPasswordEncoder implements PasswordEncoder {
+		
+		private final boolean block;
+		
+		BlockingPasswordEncoder(boolean block) {
+			this.block = block;
+		}
+		
+		@Override
+		public String encode(CharSequence rawPassword) {
+			started.countDown();
+			if(block) {
+				try {
+					release.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return "hashed:" + rawPassword;
+		}
+		
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			return encode(rawPassword).equals(encodedPassword);
+		}
+	}
+}
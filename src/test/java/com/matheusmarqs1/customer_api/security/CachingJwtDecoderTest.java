@@ -0,0 +1,83 @@
+package com.matheusmarqs1.customer_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+@DisplayName("Unit tests for the caching JWT decoder")
+@Tag("Unit")
+public class CachingJwtDecoderTest {
+	
+	private static final Instant NOW = Instant.parse("2025-03-10T15:00:00Z");
+	
+	private final JwtDecoder delegate = mock(JwtDecoder.class);
+	private final AtomicLong ticker = new AtomicLong();
+	private final CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, Clock.fixed(NOW, ZoneOffset.UTC), ticker::get);
+	
+	@Test
+	@DisplayName("Should verify a token once and serve later uses from the cache")
+	void shouldDecodeTokenOnce() {
+		Jwt jwt = jwt(NOW.plusSeconds(900));
+		when(delegate.decode("token")).thenReturn(jwt);
+		
+		assertSame(jwt, decoder.decode("token"));
+		Jwt cached = decoder.decode("token");
+		
+		assertEquals("token", cached.getTokenValue());
+		assertEquals(jwt.getHeaders(), cached.getHeaders());
+		assertEquals(jwt.getClaims(), cached.getClaims());
+		verify(delegate, times(1)).decode("token");
+	}
+	
+	@Test
+	@DisplayName("Should verify the token again once it reaches its expiry")
+	void shouldExpireAtTokenExpiry() {
+		Jwt jwt = jwt(NOW.plusSeconds(900));
+		when(delegate.decode("token")).thenReturn(jwt);
+		
+		decoder.decode("token");
+		ticker.addAndGet(Duration.ofSeconds(899).toNanos());
+		decoder.decode("token");
+		ticker.addAndGet(Duration.ofSeconds(1).toNanos());
+		decoder.decode("token");
+		
+		verify(delegate, times(2)).decode("token");
+	}
+	
+	@Test
+	@DisplayName("Should not cache tokens that fail verification")
+	void shouldNotCacheInvalidTokens() {
+		when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid signature"));
+		
+		assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+		assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+		
+		verify(delegate, times(2)).decode("bad");
+	}
+	
+	private static Jwt jwt(Instant expiresAt) {
+		return Jwt.withTokenValue("token")
+				.header("alg", "RS256")
+				.subject("ana@example.com")
+				.issuedAt(NOW)
+				.expiresAt(expiresAt)
+				.build();
+	}
+}
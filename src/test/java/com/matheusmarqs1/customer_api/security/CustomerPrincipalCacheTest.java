@@ -0,0 +1,72 @@
+package com.matheusmarqs1.customer_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.matheusmarqs1.customer_api.config.CacheConfig;
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
+
+@DisplayName("Unit tests for the login principal cache")
+@Tag("Unit")
+public class CustomerPrincipalCacheTest {
+	
+	private final CustomerPrincipalCache principalCache = new CustomerPrincipalCache(new ConcurrentMapCacheManager(CacheConfig.PRINCIPALS_CACHE));
+	private final AtomicInteger loads = new AtomicInteger();
+	private final CustomerAuthenticated ana = new CustomerAuthenticated(new Customer(2L, "Ana Teles", "999999998", "ana@example.com",
+			LocalDate.of(1995, 3, 15), "99999999998", "{bcrypt}hash", Role.ROLE_CUSTOMER));
+	
+	private final Function<String, Optional<CustomerAuthenticated>> loader = email -> {
+		loads.incrementAndGet();
+		return email.equals("ana@example.com") ? Optional.of(ana) : Optional.empty();
+	};
+	
+	@Test
+	@DisplayName("Should load a principal once and serve repeated lookups from the cache")
+	void shouldServeRepeatedLookupsFromCache() {
+		assertSame(ana, principalCache.get("ana@example.com", loader).orElseThrow());
+		assertSame(ana, principalCache.get("ana@example.com", loader).orElseThrow());
+		
+		assertEquals(1, loads.get());
+	}
+	
+	@Test
+	@DisplayName("Should cache unknown emails")
+	void shouldCacheUnknownEmails() {
+		assertTrue(principalCache.get("nobody@example.com", loader).isEmpty());
+		assertTrue(principalCache.get("nobody@example.com", loader).isEmpty());
+		
+		assertEquals(1, loads.get());
+	}
+	
+	@Test
+	@DisplayName("Should go to the loader for another spelling of a cached email")
+	void shouldNotAnswerForOtherSpellings() {
+		principalCache.get("ana@example.com", loader);
+		
+		assertTrue(principalCache.get(" ANA@example.com", loader).isEmpty());
+		assertSame(ana, principalCache.get("ana@example.com", loader).orElseThrow());
+		assertEquals(2, loads.get());
+	}
+	
+	@Test
+	@DisplayName("Should reload a principal after it is evicted")
+	void shouldReloadAfterEviction() {
+		principalCache.get("ana@example.com", loader);
+		principalCache.evict("Ana@Example.com");
+		principalCache.get("ana@example.com", loader);
+		
+		assertEquals(2, loads.get());
+	}
+}
@@ -0,0 +1,103 @@
+package com.matheusmarqs1.customer_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+@DisplayName("Unit tests for the JWT signing and verification keys")
+@Tag("Unit")
+public class JwtKeysTest {
+	
+	@Test
+	@DisplayName("Should sign and verify ES256 tokens with the key id in the header")
+	void shouldSignAndVerifyWithEs256() throws Exception {
+		KeyPair ec = ecKeyPair();
+		JwtKeys keys = new JwtKeys("ES256", publicKey(ec), privateKey(ec), List.of());
+		
+		Jwt jwt = keys.decoder().decode(issue(keys));
+		
+		assertEquals(SignatureAlgorithm.ES256.getName(), jwt.getHeaders().get("alg"));
+		assertEquals(keys.header().getKeyId(), jwt.getHeaders().get("kid"));
+		assertEquals("ana@example.com", jwt.getSubject());
+	}
+	
+	@Test
+	@DisplayName("Should keep accepting tokens signed by a previous key after rotation")
+	void shouldVerifyTokensFromPreviousKey() throws Exception {
+		KeyPair oldRsa = rsaKeyPair();
+		KeyPair newEc = ecKeyPair();
+		JwtKeys oldKeys = new JwtKeys("RS256", publicKey(oldRsa), privateKey(oldRsa), List.of());
+		JwtKeys rotatedKeys = new JwtKeys("ES256", publicKey(newEc), privateKey(newEc), List.of(publicKey(oldRsa)));
+		
+		String oldToken = issue(oldKeys);
+		
+		assertEquals("ana@example.com", rotatedKeys.decoder().decode(oldToken).getSubject());
+		assertEquals("ana@example.com", rotatedKeys.decoder().decode(issue(rotatedKeys)).getSubject());
+	}
+	
+	@Test
+	@DisplayName("Should reject tokens signed by a key that is not configured")
+	void shouldRejectTokensFromUnknownKey() throws Exception {
+		KeyPair other = rsaKeyPair();
+		KeyPair current = rsaKeyPair();
+		JwtKeys otherKeys = new JwtKeys("RS256", publicKey(other), privateKey(other), List.of());
+		JwtKeys keys = new JwtKeys("RS256", publicKey(current), privateKey(current), List.of());
+		
+		String token = issue(otherKeys);
+		
+		assertThrows(JwtException.class, () -> keys.decoder().decode(token));
+	}
+	
+	@Test
+	@DisplayName("Should refuse a key pair that does not match the configured algorithm")
+	void shouldRejectMismatchedKeyPair() throws Exception {
+		KeyPair rsa = rsaKeyPair();
+		
+		assertThrows(IllegalArgumentException.class, () -> new JwtKeys("ES256", publicKey(rsa), privateKey(rsa), List.of()));
+	}
+	
+	private static String issue(JwtKeys keys) {
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+				.issuer("customer-api")
+				.issuedAt(Instant.now())
+				.expiresAt(Instant.now().plusSeconds(900))
+				.subject("ana@example.com")
+				.build();
+		return keys.encoder().encode(JwtEncoderParameters.from(keys.header(), claims)).getTokenValue();
+	}
+	
+	private static KeyPair rsaKeyPair() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		return generator.generateKeyPair();
+	}
+	
+	private static KeyPair ecKeyPair() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(new ECGenParameterSpec("secp256r1"));
+		return generator.generateKeyPair();
+	}
+	
+	private static String publicKey(KeyPair keyPair) {
+		return Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+	}
+	
+	private static String privateKey(KeyPair keyPair) {
+		return Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+	}
+}
@@ -0,0 +1,78 @@
+package com.matheusmarqs1.customer_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import com.matheusmarqs1.customer_api.dtos.login.LoginResponse;
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for JwtService")
+@Tag("Unit")
+public class JwtServiceTest {
+	
+	@Mock
+	private JwtEncoder encoder;
+	
+	@Mock
+	private JwtKeys jwtKeys;
+	
+	private JwtService jwtService;
+	
+	@BeforeEach
+	void setUp() {
+		jwtService = new JwtService(encoder, jwtKeys);
+		when(jwtKeys.header()).thenReturn(JwsHeader.with(SignatureAlgorithm.RS256).keyId("kid").build());
+		when(encoder.encode(any(JwtEncoderParameters.class))).thenReturn(Jwt.withTokenValue("token")
+				.header("alg", "RS256")
+				.claim("sub", "ana@example.com")
+				.build());
+	}
+	
+	@Test
+	@DisplayName("Should issue a token with the scope, roles and id of the customer's role")
+	void shouldIssueTokenWithRoleClaims() {
+		Customer customer = new Customer(2L, "Ana Teles", "999999998", "ana@example.com",
+				LocalDate.of(1995, 3, 15), "99999999998", "{bcrypt}hash", Role.ROLE_CUSTOMER);
+		CustomerAuthenticated principal = new CustomerAuthenticated(customer);
+		
+		LoginResponse response = jwtService.generateTokenAndResponse(
+				UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()), "refresh");
+		
+		ArgumentCaptor<JwtEncoderParameters> parameters = ArgumentCaptor.forClass(JwtEncoderParameters.class);
+		verify(encoder).encode(parameters.capture());
+		
+		assertEquals("token", response.token());
+		assertEquals(List.of("ROLE_CUSTOMER"), response.roles());
+		assertEquals(2L, response.id());
+		assertEquals("refresh", response.refreshToken());
+		assertEquals("ROLE_CUSTOMER", parameters.getValue().getClaims().getClaim("scope"));
+		assertEquals(2L, (Long) parameters.getValue().getClaims().getClaim("customerId"));
+		assertEquals("ana@example.com", parameters.getValue().getClaims().getSubject());
+		assertEquals("kid", parameters.getValue().getJwsHeader().getKeyId());
+		assertTrue(parameters.getValue().getClaims().getExpiresAt().isAfter(Instant.now()));
+	}
+}
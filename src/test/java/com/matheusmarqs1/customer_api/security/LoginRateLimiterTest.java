@@ -0,0 +1,59 @@
+package com.matheusmarqs1.customer_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.matheusmarqs1.customer_api.services.exceptions.TooManyRequestsException;
+
+@DisplayName("Unit tests for the login rate limiter")
+@Tag("Unit")
+public class LoginRateLimiterTest {
+	
+	private final AtomicLong now = new AtomicLong();
+	private final LoginRateLimiter limiter = new LoginRateLimiter(true, 3, Duration.ofMinutes(1), 5, Duration.ofMinutes(1), 1000, now::get);
+	
+	@Test
+	@DisplayName("Should reject attempts for an email once its bucket is empty, whatever the case of the email")
+	void shouldRejectWhenEmailBucketIsEmpty() {
+		limiter.acquire("ana@example.com", "10.0.0.1");
+		limiter.acquire("ANA@example.com", "10.0.0.2");
+		limiter.acquire("ana@example.com", "10.0.0.3");
+		
+		TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+				() -> limiter.acquire("ana@example.com", "10.0.0.4"));
+		assertEquals(Duration.ofSeconds(20), exception.getRetryAfter());
+		assertDoesNotThrow(() -> limiter.acquire("joao@example.com", "10.0.0.4"));
+	}
+	
+	@Test
+	@DisplayName("Should reject attempts from a client address once its bucket is empty")
+	void shouldRejectWhenIpBucketIsEmpty() {
+		for(int i = 0; i < 5; i++) {
+			limiter.acquire("user" + i + "@example.com", "10.0.0.1");
+		}
+		
+		assertThrows(TooManyRequestsException.class, () -> limiter.acquire("other@example.com", "10.0.0.1"));
+	}
+	
+	@Test
+	@DisplayName("Should allow attempts again as tokens refill")
+	void shouldRefillOverTime() {
+		for(int i = 0; i < 3; i++) {
+			limiter.acquire("ana@example.com", "10.0.0.1");
+		}
+		assertThrows(TooManyRequestsException.class, () -> limiter.acquire("ana@example.com", "10.0.0.1"));
+		
+		now.addAndGet(Duration.ofSeconds(20).toNanos());
+		
+		assertDoesNotThrow(() -> limiter.acquire("ana@example.com", "10.0.0.1"));
+		assertThrows(TooManyRequestsException.class, () -> limiter.acquire("ana@example.com", "10.0.0.1"));
+	}
+}
@@ -0,0 +1,105 @@
+package com.matheusmarqs1.customer_api.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.matheusmarqs1.customer_api.config.CustomerDataGenerator;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerImportResponse;
+import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+
+/**
+ * Runs without a test transaction and with chunks smaller than the uploads, so every chunk is committed on its own
+ * by the import's {@code TransactionTemplate} against the real database. The imported rows are deleted afterwards.
+ */
+@SpringBootTest(properties = "customer.import.chunk-size=2")
+@DisplayName("Integration tests for the bulk customer import")
+@Tag("Integration")
+public class CustomerImportServiceIntegrationTest {
+
+	@Autowired
+	CustomerImportService customerImportService;
+
+	@MockitoSpyBean
+	CustomerRepository customerRepository;
+
+	@AfterEach
+	void cleanup() {
+		customerRepository.findAll().stream()
+				.filter(customer -> customer.getEmail().startsWith("import"))
+				.forEach(customerRepository::delete);
+	}
+
+	@Test
+	@DisplayName("Should commit each chunk so later chunks see the rows imported before them")
+	void shouldCommitEachChunk() throws Exception {
+		String body = row(900_001, "import1@example.com")
+				+ row(900_002, "import2@example.com")
+				+ row(900_003, "import3@example.com")
+				+ row(900_001, "import4@example.com")
+				+ row(900_005, "import5@example.com");
+
+		CustomerImportResponse response = customerImportService.importCustomers(input(body), CustomerFileFormat.NDJSON);
+
+		assertEquals(4, response.imported());
+		assertEquals(1, response.rejected());
+		assertEquals(4, response.errors().get(0).line());
+		assertEquals("CPF already exists", response.errors().get(0).message());
+		List<String> emails = List.of("import1@example.com", "import2@example.com", "import3@example.com",
+				"import4@example.com", "import5@example.com");
+		assertEquals(List.of("import1@example.com", "import2@example.com", "import3@example.com", "import5@example.com"),
+				customerRepository.findExistingEmails(emails).stream().sorted().toList());
+	}
+
+	@Test
+	@DisplayName("Should check a chunk again and retry it when an insert hits a unique constraint")
+	void shouldRetryChunkAfterUniqueViolation() throws Exception {
+		// The first check misses ana@example.com, as if that customer signed up between the check and the insert
+		doReturn(Set.of()).doAnswer(invocation -> existingEmails(invocation.getArgument(0)))
+				.when(customerRepository).findExistingEmails(anyCollection());
+
+		String body = row(900_011, "import11@example.com")
+				+ row(900_012, "ana@example.com");
+
+		CustomerImportResponse response = customerImportService.importCustomers(input(body), CustomerFileFormat.NDJSON);
+
+		assertEquals(1, response.imported());
+		assertEquals(1, response.rejected());
+		assertEquals(2, response.errors().get(0).line());
+		assertEquals("Email already exists", response.errors().get(0).message());
+		assertTrue(customerRepository.existsByEmail("import11@example.com"));
+		verify(customerRepository, times(2)).insertAll(any());
+	}
+
+	private Set<String> existingEmails(Collection<String> emails) {
+		return emails.stream().filter(customerRepository::existsByEmail).collect(Collectors.toSet());
+	}
+
+	private static String row(long id, String email) {
+		return "{\"name\":\"Import Test\",\"cpf\":\"" + CustomerDataGenerator.cpfOf(id) + "\",\"email\":\"" + email
+				+ "\",\"birthDate\":\"1990-01-01\",\"phone\":\"1199999999\",\"password\":\"AlkPQ12@\"}\n";
+	}
+
+	private static ByteArrayInputStream input(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,143 @@
+package com.matheusmarqs1.customer_api.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matheusmarqs1.customer_api.config.CustomerDataGenerator;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerImportResponse;
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+import com.matheusmarqs1.customer_api.search.CustomerNameIndex;
+import com.matheusmarqs1.customer_api.security.BoundedPasswordEncoder;
+import com.matheusmarqs1.customer_api.security.CustomerPrincipalCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for the bulk customer import")
+@Tag("Unit")
+public class CustomerImportServiceTest {
+	
+	private static final int CHUNK_SIZE = 2;
+	
+	@Mock
+	private CustomerRepository customerRepository;
+	
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	
+	@Mock
+	private CustomerNameIndex customerNameIndex;
+	
+	@Mock
+	private CustomerPrincipalCache customerPrincipalCache;
+	
+	@Mock
+	private PasswordEncoder bcrypt;
+	
+	private BoundedPasswordEncoder sharedEncoder;
+	private CustomerImportService customerImportService;
+	
+	@BeforeEach
+	void setup() {
+		// The shared login and signup pool is shut down: any hash submitted to it is rejected with a 503
+		sharedEncoder = new BoundedPasswordEncoder(bcrypt, 1, 1, Duration.ofSeconds(1), new SimpleMeterRegistry());
+		sharedEncoder.destroy();
+		
+		customerImportService = new CustomerImportService(customerRepository, sharedEncoder,
+				Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper().findAndRegisterModules(),
+				transactionTemplate, customerNameIndex, customerPrincipalCache, new SimpleMeterRegistry(), CHUNK_SIZE, 100, 1);
+		
+		when(bcrypt.encode(anyString())).thenReturn("encoded_password");
+		doAnswer(invocation -> {
+			Consumer<TransactionStatus> action = invocation.getArgument(0);
+			action.accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+	
+	@AfterEach
+	void tearDown() {
+		customerImportService.destroy();
+	}
+	
+	@Test
+	@DisplayName("Should hash on its own pool and report the rows of a failed chunk instead of failing the import")
+	void shouldReportFailedChunkAndCarryOn() throws Exception {
+		AtomicInteger chunks = new AtomicInteger();
+		AtomicLong ids = new AtomicLong();
+		doAnswer(invocation -> {
+			if(chunks.incrementAndGet() == 2) {
+				throw new DataAccessResourceFailureException("Connection reset");
+			}
+			List<Customer> customers = invocation.getArgument(0);
+			customers.forEach(customer -> customer.setId(ids.incrementAndGet()));
+			return null;
+		}).when(customerRepository).insertAll(any());
+		
+		CustomerImportResponse response = customerImportService.importCustomers(ndjson(5), CustomerFileFormat.NDJSON);
+		
+		assertEquals(3, response.imported());
+		assertEquals(2, response.rejected());
+		assertEquals(3, response.errors().get(0).line());
+		assertEquals(4, response.errors().get(1).line());
+		assertTrue(response.errors().get(0).message().startsWith("Not imported"));
+	}
+	
+	@Test
+	@DisplayName("Should report the rows of a chunk that still hits a unique constraint after the retry")
+	void shouldReportChunkFailingAgainAfterRetry() throws Exception {
+		doThrow(new DataIntegrityViolationException("Unique index or primary key violation"))
+				.when(customerRepository).insertAll(any());
+		
+		CustomerImportResponse response = customerImportService.importCustomers(ndjson(2), CustomerFileFormat.NDJSON);
+		
+		assertEquals(0, response.imported());
+		assertEquals(2, response.rejected());
+		assertTrue(response.errors().get(1).message().startsWith("Not imported"));
+		verify(customerRepository, times(2)).insertAll(any());
+		verify(customerRepository, times(2)).findExistingEmails(any());
+	}
+	
+	private static ByteArrayInputStream ndjson(int rows) {
+		StringBuilder body = new StringBuilder();
+		for(int i = 1; i <= rows; i++) {
+			body.append("{\"name\":\"Customer ").append(i)
+					.append("\",\"cpf\":\"").append(CustomerDataGenerator.cpfOf(i))
+					.append("\",\"email\":\"customer").append(i)
+					.append("@example.com\",\"birthDate\":\"1990-01-01\",\"phone\":\"1199999999\",\"password\":\"AlkPQ12@\"}\n");
+		}
+		return new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
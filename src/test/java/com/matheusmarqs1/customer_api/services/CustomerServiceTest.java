@@ -2,6 +2,7 @@ package com.matheusmarqs1.customer_api.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -11,10 +12,15 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -22,23 +28,35 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerCreateRequest;
+import com.matheusmarqs1.customer_api.dtos.customer.CustomerPatchRequest;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerResponse;
 import com.matheusmarqs1.customer_api.dtos.customer.CustomerUpdateRequest;
 import com.matheusmarqs1.customer_api.entities.Customer;
 import com.matheusmarqs1.customer_api.entities.enums.Role;
+import com.matheusmarqs1.customer_api.repositories.CustomerCountEstimator;
 import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+import com.matheusmarqs1.customer_api.repositories.projections.CustomerSummary;
+import com.matheusmarqs1.customer_api.search.CustomerNameIndex;
+import com.matheusmarqs1.customer_api.search.CustomerQueryStatistics;
+import com.matheusmarqs1.customer_api.security.CustomerPrincipalCache;
 import com.matheusmarqs1.customer_api.services.exceptions.BusinessException;
 import com.matheusmarqs1.customer_api.services.exceptions.ResourceNotFoundException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Unit tests for Customer API Service")
 @Tag("Unit")
@@ -50,6 +68,21 @@ public class CustomerServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 	
+	@Mock
+	private CustomerCountEstimator customerCountEstimator;
+	
+	@Mock
+	private CustomerNameIndex customerNameIndex;
+	
+	@Mock
+	private CustomerPrincipalCache customerPrincipalCache;
+	
+	@Mock
+	private RefreshTokenService refreshTokenService;
+	
+	@Spy
+	private CustomerQueryStatistics customerQueryStatistics = new CustomerQueryStatistics(new SimpleMeterRegistry(), Duration.ofMillis(200), 1.0, 100);
+	
 	@InjectMocks
 	private CustomerService customerService;
 	
@@ -117,9 +150,9 @@ public class CustomerServiceTest {
 		
 		Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE);
 		
-		Page<Customer> page = new PageImpl<>(List.of(existingCustomer, otherExistingCustomer), pageable, 2);
+		Page<CustomerSummary> page = new PageImpl<>(List.of(summaryOf(existingCustomer), summaryOf(otherExistingCustomer)), pageable, 2);
 		
-		when(customerRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+		when(customerRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(page);
 		
 		Page<CustomerResponse> response = customerService.findCustomers(null, null, null, null, null, pageable);
 		
@@ -130,7 +163,7 @@ public class CustomerServiceTest {
 		assertEquals(otherExistingCustomer.getId(), response.getContent().get(1).id());
 		assertEquals(otherExistingCustomer.getName(), response.getContent().get(1).name());
 		
-		verify(customerRepository).findAll(any(Specification.class), eq(pageable));
+		verify(customerRepository).findSummaries(any(Specification.class), eq(pageable));
 		
 	}
 	
@@ -140,9 +173,9 @@ public class CustomerServiceTest {
 	void shouldReturnCustomersWhenFilteredByCpf() {
 		Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE);
 		
-		Page<Customer> page = new PageImpl<>(List.of(existingCustomer), pageable, 1);
+		Page<CustomerSummary> page = new PageImpl<>(List.of(summaryOf(existingCustomer)), pageable, 1);
 		
-		when(customerRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+		when(customerRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(page);
 		
 		Page<CustomerResponse> response = customerService.findCustomers(null, "12345678900", null, null, null, pageable);
 		
@@ -151,7 +184,7 @@ public class CustomerServiceTest {
 		assertEquals(existingCustomer.getId(), response.getContent().get(0).id());
 		assertEquals(existingCustomer.getName(), response.getContent().get(0).name());
 		
-		verify(customerRepository).findAll(any(Specification.class), eq(pageable));
+		verify(customerRepository).findSummaries(any(Specification.class), eq(pageable));
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -159,9 +192,9 @@ public class CustomerServiceTest {
 	void shouldReturnCustomersWhenMoreFiltersAreApplied() {
 		Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE);
 		
-		Page<Customer> page = new PageImpl<>(List.of(existingCustomer), pageable, 1);
+		Page<CustomerSummary> page = new PageImpl<>(List.of(summaryOf(existingCustomer)), pageable, 1);
 		
-		when(customerRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+		when(customerRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(page);
 		
 		Page<CustomerResponse> response = customerService.findCustomers("Ronaldo Rosa",null,"ronaldorosa@example.com", null, null, pageable);
 		
@@ -171,7 +204,64 @@ public class CustomerServiceTest {
 		assertEquals(existingCustomer.getName(), response.getContent().get(0).name());
 		assertEquals(existingCustomer.getEmail(), response.getContent().get(0).email());
 		
-		verify(customerRepository).findAll(any(Specification.class), eq(pageable));
+		verify(customerRepository).findSummaries(any(Specification.class), eq(pageable));
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	@DisplayName("Should return a slice without running a count query when the total is not requested")
+	void shouldReturnSliceWithoutCountWhenTotalIsNotRequested() {
+		Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE);
+		
+		Slice<CustomerSummary> slice = new SliceImpl<>(List.of(summaryOf(existingCustomer), summaryOf(otherExistingCustomer)), pageable, false);
+		
+		when(customerRepository.findSummarySlice(any(Specification.class), eq(pageable))).thenReturn(slice);
+		
+		Slice<CustomerResponse> response = customerService.findCustomers(null, null, null, null, null, pageable, TotalMode.NONE);
+		
+		assertNotNull(response);
+		assertEquals(2, response.getNumberOfElements());
+		assertEquals(existingCustomer.getId(), response.getContent().get(0).id());
+		
+		verify(customerRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+		verify(customerCountEstimator, never()).estimate(any(), any(), any(), any(), any());
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	@DisplayName("Should report the planner estimate as total when an estimate is requested")
+	void shouldReturnEstimatedTotalWhenEstimateIsRequested() {
+		Pageable pageable = PageRequest.of(DEFAULT_PAGE, 1);
+		
+		Slice<CustomerSummary> slice = new SliceImpl<>(List.of(summaryOf(existingCustomer)), pageable, true);
+		
+		when(customerCountEstimator.estimate("Ronaldo", null, null, null, null)).thenReturn(OptionalLong.of(1500));
+		when(customerRepository.findSummarySlice(any(Specification.class), eq(pageable))).thenReturn(slice);
+		
+		Slice<CustomerResponse> response = customerService.findCustomers("Ronaldo", null, null, null, null, pageable, TotalMode.ESTIMATE);
+		
+		Page<CustomerResponse> page = (Page<CustomerResponse>) response;
+		assertEquals(1500, page.getTotalElements());
+		assertEquals(existingCustomer.getId(), page.getContent().get(0).id());
+		
+		verify(customerRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	@DisplayName("Should fall back to an exact count when no estimate is available")
+	void shouldFallBackToExactCountWhenEstimateIsUnavailable() {
+		Pageable pageable = PageRequest.of(DEFAULT_PAGE, DEFAULT_SIZE);
+		
+		Page<CustomerSummary> page = new PageImpl<>(List.of(summaryOf(existingCustomer)), pageable, 1);
+		
+		when(customerCountEstimator.estimate(any(), any(), any(), any(), any())).thenReturn(OptionalLong.empty());
+		when(customerRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(page);
+		
+		Slice<CustomerResponse> response = customerService.findCustomers(null, null, null, null, null, pageable, TotalMode.ESTIMATE);
+		
+		assertEquals(1, ((Page<CustomerResponse>) response).getTotalElements());
+		verify(customerRepository).findSummaries(any(Specification.class), eq(pageable));
 	}
 	
 	@Test
@@ -210,11 +300,9 @@ public class CustomerServiceTest {
 	@DisplayName("Should create a customer successfully when CPF and email are unique")
 	void shouldCreateCustomerWhenCpfAndEmailAreUnique() {
 		
-		when(customerRepository.findByCpf(createRequest.cpf())).thenReturn(Optional.empty());
-		when(customerRepository.findByEmail(createRequest.email())).thenReturn(Optional.empty());
 		when(passwordEncoder.encode(createRequest.password())).thenReturn(ENCODED_PASSWORD);
 		
-		when(customerRepository.save(any(Customer.class)))
+		when(customerRepository.saveAndFlush(any(Customer.class)))
 	    .thenAnswer(invocation -> {
 	        Customer customer = invocation.getArgument(0);
 	        customer.setId(NEW_CUSTOMER_ID);
@@ -228,15 +316,48 @@ public class CustomerServiceTest {
 	    assertEquals(createRequest.name(), response.name());
 	    assertEquals(createRequest.email(), response.email());
 		
-	    verify(customerRepository).findByCpf(createRequest.cpf());
-	    verify(customerRepository).findByEmail(createRequest.email());
 	    verify(passwordEncoder).encode(createRequest.password());
-	    verify(customerRepository).save(any(Customer.class));
+	    verify(customerRepository).saveAndFlush(any(Customer.class));
+	    verify(customerNameIndex).add(NEW_CUSTOMER_ID, createRequest.name());
+	    verify(customerPrincipalCache).evict(createRequest.email());
 	}
 	@Test
-	@DisplayName("Should throw BusinessException when creating a customer with an existing CPF")
+	@DisplayName("Should reject an existing CPF before hashing the password")
+	void shouldRejectExistingCpfBeforeHashing() {
+		when(customerRepository.findCpfsByCpfOrEmail(createRequest.cpf(), createRequest.email())).thenReturn(List.of(createRequest.cpf()));
+		
+		BusinessException exception = assertThrows(
+				BusinessException.class,
+				() -> customerService.createCustomer(createRequest)
+		);
+		
+		assertEquals("CPF already exists", exception.getMessage());
+		verify(passwordEncoder, never()).encode(anyString());
+		verify(customerRepository, never()).saveAndFlush(any(Customer.class));
+	}
+	
+	@Test
+	@DisplayName("Should reject an existing email before hashing the password")
+	void shouldRejectExistingEmailBeforeHashing() {
+		when(customerRepository.findCpfsByCpfOrEmail(createRequest.cpf(), createRequest.email())).thenReturn(List.of("98765432100"));
+		
+		BusinessException exception = assertThrows(
+				BusinessException.class,
+				() -> customerService.createCustomer(createRequest)
+		);
+		
+		assertEquals("Email already exists", exception.getMessage());
+		verify(passwordEncoder, never()).encode(anyString());
+		verify(customerRepository, never()).saveAndFlush(any(Customer.class));
+	}
+	
+	@Test
+	@DisplayName("Should report a concurrent duplicate CPF from an H2 violation on a Hibernate-named constraint")
 	void shouldThrowBusinessExceptionWhenCreatingCustomerWithExistingCpf() {
-		when(customerRepository.findByCpf(createRequest.cpf())).thenReturn(Optional.of(existingCustomer));
+		when(passwordEncoder.encode(createRequest.password())).thenReturn(ENCODED_PASSWORD);
+		when(customerRepository.saveAndFlush(any(Customer.class))).thenThrow(uniqueViolation("UKT9K8Y3C6JB4QLD1W1R7VLEM0J",
+				"Unique index or primary key violation: \"PUBLIC.UKT9K8Y3C6JB4QLD1W1R7VLEM0J_INDEX_8 ON PUBLIC.TB_CUSTOMER(CPF NULLS FIRST) "
+				+ "VALUES ( /* 1 */ '12345678901' )\"; SQL statement:\ninsert into tb_customer (birth_date,cpf,email,name,password,phone,role,id) values (?,?,?,?,?,?,?,?)"));
 		
 		BusinessException exception = assertThrows(
 				BusinessException.class, 
@@ -244,18 +365,17 @@ public class CustomerServiceTest {
 		);
 		
 		assertEquals("CPF already exists", exception.getMessage());
-		verify(customerRepository).findByCpf(createRequest.cpf());
-		verify(customerRepository, never()).findByEmail(anyString());
-		verify(passwordEncoder, never()).encode(anyString());
-		verify(customerRepository, never()).save(any(Customer.class));
+		verify(customerRepository).saveAndFlush(any(Customer.class));
+		verify(customerNameIndex, never()).add(anyLong(), anyString());
 		
 	}
 	
 	@Test
-	@DisplayName("Should throw BusinessException when creating a customer with an existing email")
+	@DisplayName("Should report a concurrent duplicate email from a PostgreSQL violation on a Hibernate-named constraint")
 	void shouldThrowBusinessExceptionWhenCreatingCustomerWithExistingEmail() {
-		when(customerRepository.findByCpf(createRequest.cpf())).thenReturn(Optional.empty());
-		when(customerRepository.findByEmail(createRequest.email())).thenReturn(Optional.of(existingCustomer));
+		when(passwordEncoder.encode(createRequest.password())).thenReturn(ENCODED_PASSWORD);
+		when(customerRepository.saveAndFlush(any(Customer.class))).thenThrow(uniqueViolation("ukrrt6qf1k2dp9ko0xcp3e37gu7",
+				"ERROR: duplicate key value violates unique constraint \"ukrrt6qf1k2dp9ko0xcp3e37gu7\"\n  Detail: Key (email)=(joao@example.com) already exists."));
 		
 		BusinessException exception = assertThrows(
 				BusinessException.class,
@@ -263,20 +383,33 @@ public class CustomerServiceTest {
 		);
 		
 		assertEquals("Email already exists", exception.getMessage());
-		verify(customerRepository).findByCpf(createRequest.cpf());
-		verify(customerRepository).findByEmail(createRequest.email());
-		verify(passwordEncoder, never()).encode(anyString());
-		verify(customerRepository, never()).save(any(Customer.class));
+		verify(customerRepository).saveAndFlush(any(Customer.class));
+		verify(customerNameIndex, never()).add(anyLong(), anyString());
+	}
+	
+	@Test
+	@DisplayName("Should rethrow integrity violations that are not a duplicate CPF or email")
+	void shouldRethrowDataIntegrityViolationWhenNotADuplicate() {
+		DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+				new ConstraintViolationException("not null", new SQLException(), ConstraintKind.OTHER, "phone"));
+		when(passwordEncoder.encode(createRequest.password())).thenReturn(ENCODED_PASSWORD);
+		when(customerRepository.saveAndFlush(any(Customer.class))).thenThrow(violation);
+		
+		DataIntegrityViolationException exception = assertThrows(
+				DataIntegrityViolationException.class,
+				() -> customerService.createCustomer(createRequest)
+		);
+		
+		assertSame(violation, exception);
 	}
 	
 	@Test
 	@DisplayName("Should update a customer when the ID exists and the email is unique")
 	void shouldUpdateCustomerWhenIdExistsAndEmailIsUnique() {
 		when(customerRepository.findById(EXISTING_CUSTOMER_ID)).thenReturn(Optional.of(existingCustomer));
-		when(customerRepository.findByEmail(updateRequest.email())).thenReturn(Optional.empty());
 		when(passwordEncoder.encode(updateRequest.password())).thenReturn(ENCODED_PASSWORD);
 		
-		when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(customerRepository.saveAndFlush(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
 		
 		CustomerResponse response = customerService.updateCustomer(EXISTING_CUSTOMER_ID, updateRequest);
 	
@@ -289,9 +422,45 @@ public class CustomerServiceTest {
 		assertEquals(updateRequest.phone(), response.phone());
 		
 		verify(customerRepository).findById(EXISTING_CUSTOMER_ID);
-	    verify(customerRepository).findByEmail(updateRequest.email());
 	    verify(passwordEncoder).encode(updateRequest.password());
-	    verify(customerRepository).save(any(Customer.class));
+	    verify(customerRepository).saveAndFlush(any(Customer.class));
+	    verify(refreshTokenService).revokeIfCredentialsChanged(existingCustomer, ENCODED_PASSWORD, Role.ROLE_CUSTOMER);
+	    verify(customerNameIndex).update(EXISTING_CUSTOMER_ID, "Ronaldo Rosa", updateRequest.name());
+	    verify(customerPrincipalCache).evict("ronaldorosa@example.com");
+	    verify(customerPrincipalCache).evict(updateRequest.email());
+	}
+	
+	@Test
+	@DisplayName("Should patch only the provided fields without hashing when no password is sent")
+	void shouldPatchCustomerWithoutHashingWhenPasswordIsAbsent() {
+		CustomerPatchRequest patchRequest = new CustomerPatchRequest(null, null, null, "11912345678", null);
+		when(customerRepository.findById(EXISTING_CUSTOMER_ID)).thenReturn(Optional.of(existingCustomer));
+		when(customerRepository.saveAndFlush(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		
+		CustomerResponse response = customerService.patchCustomer(EXISTING_CUSTOMER_ID, patchRequest);
+		
+		assertEquals("11912345678", response.phone());
+		assertEquals("Ronaldo Rosa", response.name());
+		assertEquals("ronaldorosa@example.com", response.email());
+		assertEquals(ENCODED_PASSWORD, existingCustomer.getPassword());
+		verify(passwordEncoder, never()).encode(anyString());
+		verify(customerRepository).saveAndFlush(existingCustomer);
+		verify(refreshTokenService).revokeIfCredentialsChanged(existingCustomer, ENCODED_PASSWORD, Role.ROLE_CUSTOMER);
+	}
+	
+	@Test
+	@DisplayName("Should hash the password when a patch includes a new one")
+	void shouldPatchCustomerHashingNewPassword() {
+		CustomerPatchRequest patchRequest = new CustomerPatchRequest(null, null, null, null, "NewPass1@");
+		when(customerRepository.findById(EXISTING_CUSTOMER_ID)).thenReturn(Optional.of(existingCustomer));
+		when(passwordEncoder.encode("NewPass1@")).thenReturn("newEncodedPassword");
+		when(customerRepository.saveAndFlush(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		
+		customerService.patchCustomer(EXISTING_CUSTOMER_ID, patchRequest);
+		
+		assertEquals("newEncodedPassword", existingCustomer.getPassword());
+		verify(passwordEncoder).encode("NewPass1@");
+		verify(refreshTokenService).revokeIfCredentialsChanged(existingCustomer, ENCODED_PASSWORD, Role.ROLE_CUSTOMER);
 	}
 	
 	@Test
@@ -306,16 +475,32 @@ public class CustomerServiceTest {
 		
 		assertEquals("Customer not found with ID: " + NON_EXISTING_ID, exception.getMessage());
 		verify(customerRepository).findById(NON_EXISTING_ID);
-		verify(customerRepository, never()).findByEmail(anyString());
 		verify(passwordEncoder, never()).encode(anyString());
-		verify(customerRepository, never()).save(any(Customer.class));
+		verify(customerRepository, never()).saveAndFlush(any(Customer.class));
+	}
+	
+	@Test
+	@DisplayName("Should reject an email taken by another customer before hashing the password")
+	void shouldRejectEmailOfAnotherCustomerBeforeHashing() {
+		when(customerRepository.findById(EXISTING_CUSTOMER_ID)).thenReturn(Optional.of(existingCustomer));
+		when(customerRepository.existsByEmail(updateRequest.email())).thenReturn(true);
+		
+		BusinessException exception = assertThrows(
+				BusinessException.class,
+				() -> customerService.updateCustomer(EXISTING_CUSTOMER_ID, updateRequest)
+		);
+		assertEquals("Email already exists", exception.getMessage());
+		verify(passwordEncoder, never()).encode(anyString());
+		verify(customerRepository, never()).saveAndFlush(any(Customer.class));
 	}
 	
 	@Test
 	@DisplayName("Should throw BusinessException when the email already exists for another customer")
 	void shouldThrowBusinessExceptionWhenEmailAlreadyExistsForAnotherCustomer() {
 		when(customerRepository.findById(EXISTING_CUSTOMER_ID)).thenReturn(Optional.of(existingCustomer));
-		when(customerRepository.findByEmail(updateRequest.email())).thenReturn(Optional.of(otherExistingCustomer));
+		when(passwordEncoder.encode(updateRequest.password())).thenReturn(ENCODED_PASSWORD);
+		when(customerRepository.saveAndFlush(any(Customer.class))).thenThrow(uniqueViolation("UK_CUSTOMER_EMAIL",
+				"Unique index or primary key violation: \"PUBLIC.UK_CUSTOMER_EMAIL_INDEX_8 ON PUBLIC.TB_CUSTOMER(EMAIL NULLS FIRST) VALUES ( /* 2 */ 'ronaldo@example.com' )\""));
 		
 		BusinessException exception = assertThrows(
 				BusinessException.class,
@@ -323,26 +508,27 @@ public class CustomerServiceTest {
 		);
 		assertEquals("Email already exists", exception.getMessage());
 		verify(customerRepository).findById(EXISTING_CUSTOMER_ID);
-		verify(customerRepository).findByEmail(updateRequest.email());
-		verify(passwordEncoder, never()).encode(anyString());
-		verify(customerRepository, never()).save(any(Customer.class));
+		verify(customerRepository).saveAndFlush(any(Customer.class));
+		verify(customerNameIndex, never()).update(anyLong(), anyString(), anyString());
 	}
 	
 	@Test
 	@DisplayName("Should delete a customer when the ID exists")
 	void shouldDeleteCustomerWhenIdExists() {
-		when(customerRepository.existsById(EXISTING_CUSTOMER_ID)).thenReturn(true);
+		when(customerRepository.findById(EXISTING_CUSTOMER_ID)).thenReturn(Optional.of(existingCustomer));
 		
 		customerService.deleteCustomer(EXISTING_CUSTOMER_ID);
 		
-		verify(customerRepository).existsById(EXISTING_CUSTOMER_ID);
-		verify(customerRepository).deleteById(EXISTING_CUSTOMER_ID);
+		verify(customerRepository).findById(EXISTING_CUSTOMER_ID);
+		verify(customerRepository).delete(existingCustomer);
+		verify(customerNameIndex).remove(EXISTING_CUSTOMER_ID, existingCustomer.getName());
+		verify(customerPrincipalCache).evict("ronaldorosa@example.com");
 	}
 	
 	@Test
 	@DisplayName("Should throw ResourceNotFoundException when deleting a customer with a non-existing ID")
 	void shouldThrowResourceNotFoundExceptionWhenDeletingCustomerWithNonExistingId() {
-		when(customerRepository.existsById(NON_EXISTING_ID)).thenReturn(false);
+		when(customerRepository.findById(NON_EXISTING_ID)).thenReturn(Optional.empty());
 		
 		ResourceNotFoundException exception = assertThrows(
 				ResourceNotFoundException.class, 
@@ -350,9 +536,17 @@ public class CustomerServiceTest {
 		);
 		
 		assertEquals("Customer not found with ID: " + NON_EXISTING_ID, exception.getMessage());
-		verify(customerRepository).existsById(NON_EXISTING_ID);
-		verify(customerRepository, never()).deleteById(anyLong());
+		verify(customerRepository).findById(NON_EXISTING_ID);
+		verify(customerRepository, never()).delete(any(Customer.class));
 		
 	}
 	
+	private static DataIntegrityViolationException uniqueViolation(String constraintName, String driverMessage) {
+		return new DataIntegrityViolationException("duplicate key",
+				new ConstraintViolationException("duplicate key", new SQLException(driverMessage, "23505"), ConstraintKind.UNIQUE, constraintName));
+	}
+	
+	private static CustomerSummary summaryOf(Customer customer) {
+		return new CustomerSummary(customer.getId(), customer.getName(), customer.getEmail(), customer.getBirthDate(), customer.getPhone());
+	}
 }
@@ -0,0 +1,119 @@
+package com.matheusmarqs1.customer_api.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.matheusmarqs1.customer_api.entities.Customer;
+import com.matheusmarqs1.customer_api.entities.RefreshToken;
+import com.matheusmarqs1.customer_api.entities.enums.Role;
+import com.matheusmarqs1.customer_api.repositories.CustomerRepository;
+import com.matheusmarqs1.customer_api.repositories.RefreshTokenRepository;
+import com.matheusmarqs1.customer_api.services.exceptions.InvalidTokenException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for the refresh token service")
+@Tag("Unit")
+public class RefreshTokenServiceTest {
+	
+	private static final Instant NOW = Instant.parse("2025-03-10T15:00:00Z");
+	private static final Long CUSTOMER_ID = 1L;
+	private static final Long TOKEN_ID = 10L;
+	
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+	
+	@Mock
+	private CustomerRepository customerRepository;
+	
+	private RefreshTokenService refreshTokenService;
+	private Customer customer;
+	
+	@BeforeEach
+	void setup() {
+		refreshTokenService = new RefreshTokenService(refreshTokenRepository, customerRepository, Duration.ofDays(30), Clock.fixed(NOW, ZoneOffset.UTC));
+		customer = new Customer(CUSTOMER_ID, "Ana Teles", "12345678909", "ana@example.com", LocalDate.of(1990, 1, 1),
+				"11987654321", "encoded_password", Role.ROLE_CUSTOMER);
+	}
+	
+	@Test
+	@DisplayName("Should revoke the presented token and issue a replacement")
+	void shouldRotateToken() {
+		when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(activeToken()));
+		when(refreshTokenRepository.revokeIfActive(TOKEN_ID, NOW)).thenReturn(1);
+		
+		RefreshTokenService.Rotation rotation = refreshTokenService.rotate("token");
+		
+		assertSame(customer, rotation.customer());
+		assertNotNull(rotation.refreshToken());
+		verify(refreshTokenRepository).save(any(RefreshToken.class));
+		verify(refreshTokenRepository, never()).revokeAllByCustomerId(anyLong(), any(Instant.class));
+	}
+	
+	@Test
+	@DisplayName("Should handle a token revoked by a concurrent refresh as a reuse")
+	void shouldRevokeAllWhenConcurrentRefreshWins() {
+		when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(activeToken()));
+		when(refreshTokenRepository.revokeIfActive(TOKEN_ID, NOW)).thenReturn(0);
+		
+		InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> refreshTokenService.rotate("token"));
+		
+		assertEquals("Invalid refresh token", exception.getMessage());
+		verify(refreshTokenRepository).revokeAllByCustomerId(CUSTOMER_ID, NOW);
+		verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+	}
+	
+	@Test
+	@DisplayName("Should revoke all refresh tokens when the password changes")
+	void shouldRevokeAllWhenPasswordChanges() {
+		customer.setPassword("new_encoded_password");
+		
+		refreshTokenService.revokeIfCredentialsChanged(customer, "encoded_password", Role.ROLE_CUSTOMER);
+		
+		verify(refreshTokenRepository).revokeAllByCustomerId(CUSTOMER_ID, NOW);
+	}
+	
+	@Test
+	@DisplayName("Should revoke all refresh tokens when the role changes")
+	void shouldRevokeAllWhenRoleChanges() {
+		customer.setRole(Role.ROLE_ADMIN);
+		
+		refreshTokenService.revokeIfCredentialsChanged(customer, "encoded_password", Role.ROLE_CUSTOMER);
+		
+		verify(refreshTokenRepository).revokeAllByCustomerId(CUSTOMER_ID, NOW);
+	}
+	
+	@Test
+	@DisplayName("Should keep refresh tokens when neither password nor role changes")
+	void shouldKeepTokensWhenCredentialsAreUnchanged() {
+		refreshTokenService.revokeIfCredentialsChanged(customer, "encoded_password", Role.ROLE_CUSTOMER);
+		
+		verify(refreshTokenRepository, never()).revokeAllByCustomerId(anyLong(), any(Instant.class));
+	}
+	
+	private RefreshToken activeToken() {
+		return new RefreshToken(TOKEN_ID, "hash", customer, NOW.plus(Duration.ofDays(1)));
+	}
+}